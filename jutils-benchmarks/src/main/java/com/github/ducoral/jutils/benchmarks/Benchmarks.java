@@ -0,0 +1,126 @@
+package com.github.ducoral.jutils.benchmarks;
+
+import com.github.ducoral.jutils.Core;
+import com.github.ducoral.jutils.Oops;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Executa os <i>benchmarks</i> com o {@link GCProfiler} habilitado, grava os resultados em JSON e os compara com os
+ * resultados de referência, quando existentes.
+ * <br/><br/>
+ * Uso, a partir do diretório raiz do projeto: <code>java -jar jutils-benchmarks/target/benchmarks.jar [opções do
+ * JMH]</code>, por exemplo <code>JsonBenchmark -p size=MEDIUM</code>. Sem opções, todos os <i>benchmarks</i> são
+ * executados com a configuração das suas anotações, a mesma utilizada na gravação dos resultados de referência
+ * versionados em <code>jutils-benchmarks/baseline.json</code>. As propriedades de sistema abaixo configuram a
+ * comparação:
+ * <ul>
+ *     <li><code>results</code>: arquivo de resultados da execução (padrão <code>jmh-result.json</code>);</li>
+ *     <li><code>baseline</code>: arquivo de resultados de referência (padrão
+ *     <code>jutils-benchmarks/baseline.json</code>);</li>
+ *     <li><code>threshold</code>: variação percentual a partir da qual a diferença é apontada (padrão 10);</li>
+ *     <li><code>record</code>: se <code>true</code>, os resultados passam a ser a nova referência.</li>
+ * </ul>
+ * A comparação considera o resultado principal de cada <i>benchmark</i> e os bytes alocados por operação
+ * (<code>gc.alloc.rate.norm</code>). Os resultados de referência devem ser gravados sempre na mesma máquina.
+ */
+public final class Benchmarks {
+
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        Path results = Paths.get(System.getProperty("results", "jmh-result.json"));
+        Path baseline = Paths.get(System.getProperty("baseline", "jutils-benchmarks/baseline.json"));
+        double threshold = Double.parseDouble(System.getProperty("threshold", "10"));
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(results.toString())
+                .build();
+        new Runner(options).run();
+        if (Files.exists(baseline))
+            compare(scores(baseline), scores(results), threshold);
+        else
+            System.out.println("Sem resultados de referência em " + baseline.toAbsolutePath());
+        if (Boolean.getBoolean("record"))
+            Files.copy(results, baseline, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /*
+     * Resultado principal e alocação por operação de cada benchmark, identificado pelo nome e pelos parâmetros.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, double[]> scores(Path file) {
+        try {
+            String document = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            Map<String, double[]> scores = new TreeMap<>();
+            for (Object item : (List<Object>) Core.parseJson(document)) {
+                Map<String, Object> result = (Map<String, Object>) item;
+                Map<String, Object> params = (Map<String, Object>) result.get("params");
+                String name = result.get("benchmark") + (params == null ? "" : " " + new TreeMap<>(params));
+                Map<String, Object> secondary = (Map<String, Object>) result.get("secondaryMetrics");
+                Map<String, Object> allocation = null;
+                if (secondary != null)
+                    for (Map.Entry<String, Object> metric : secondary.entrySet())
+                        if (metric.getKey().endsWith(ALLOCATION))
+                            allocation = (Map<String, Object>) metric.getValue();
+                scores.put(name, new double[] {
+                        score((Map<String, Object>) result.get("primaryMetric")),
+                        allocation == null ? Double.NaN : score(allocation)});
+            }
+            return scores;
+        } catch (IOException e) {
+            throw Oops.of(e);
+        }
+    }
+
+    private static double score(Map<String, Object> metric) {
+        return Double.parseDouble(String.valueOf(metric.get("score")));
+    }
+
+    private static void compare(Map<String, double[]> baseline, Map<String, double[]> current, double threshold) {
+        Map<String, String> differences = new LinkedHashMap<>();
+        current.forEach((name, scores) -> {
+            double[] reference = baseline.get(name);
+            if (reference == null)
+                return;
+            String score = difference(reference[0], scores[0], threshold);
+            String allocation = difference(reference[1], scores[1], threshold);
+            if (score != null || allocation != null)
+                differences.put(name, "score " + (score == null ? "=" : score)
+                        + ", alocação " + (allocation == null ? "=" : allocation));
+        });
+        if (differences.isEmpty())
+            System.out.println("Sem diferenças acima de " + threshold + "% em relação à referência");
+        else
+            differences.forEach((name, difference) -> System.out.println(name + ": " + difference));
+    }
+
+    private static String difference(double reference, double current, double threshold) {
+        if (Double.isNaN(reference) || Double.isNaN(current) || reference == 0)
+            return null;
+        double percent = (current - reference) * 100 / reference;
+        return Math.abs(percent) < threshold ? null : String.format("%+.1f%%", percent);
+    }
+
+    private Benchmarks() {
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.ducoral.jutils.benchmarks;
+
+import com.github.ducoral.jutils.Binary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gravação e leitura dos mesmos registros de {@link JsonBenchmark} no formato binário ({@link Binary}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class BinaryBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "HUGE"})
+    public Datasets.Size size;
+
+    private List<Object> records;
+
+    private byte[] binary;
+
+    @Setup
+    public void setup() {
+        records = Datasets.records(size.records);
+        binary = Binary.encode(records);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return Binary.encode(records);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return Binary.decode(binary);
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.ducoral.jutils.benchmarks;
+
+import com.github.ducoral.jutils.Core.Bean;
+import com.github.ducoral.jutils.Core.Container;
+import com.github.ducoral.jutils.Core.Singleton;
+import com.github.ducoral.jutils.Core;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Injeção de dependências via {@link Core#create(Class)}: criação com o plano já analisado, e criação em novo
+ * {@link Container}, que inclui a análise das classes. As fábricas de {@link Config} e {@link ServiceImpl} são
+ * geradas pelo processador de anotações do módulo <code>jutils-processor</code>, e as instâncias de
+ * {@link Repository} e {@link Plain} são criadas via <i>Reflection</i>.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class ContainerBenchmark {
+
+    @Singleton
+    public static class Config {
+    }
+
+    public static class Repository {
+        final Config config;
+
+        public Repository(Config config) {
+            this.config = config;
+        }
+    }
+
+    @Bean(type = ServiceImpl.class)
+    public interface Service {
+        Repository repository();
+    }
+
+    public static class ServiceImpl implements Service {
+        final Repository repository;
+
+        public ServiceImpl(Repository repository) {
+            this.repository = repository;
+        }
+
+        public Repository repository() {
+            return repository;
+        }
+    }
+
+    public static class Plain {
+        final Repository repository;
+        final Config config;
+
+        public Plain(Repository repository, Config config) {
+            this.repository = repository;
+            this.config = config;
+        }
+    }
+
+    private Container container;
+
+    @Setup
+    public void setup() {
+        container = Core.container();
+        container.create(Service.class);
+        container.create(Plain.class);
+    }
+
+    @Benchmark
+    public Object create() {
+        return container.create(Service.class);
+    }
+
+    @Benchmark
+    public Object createReflection() {
+        return container.create(Plain.class);
+    }
+
+    @Benchmark
+    public Object createNewContainer() {
+        return Core.container().create(Service.class);
+    }
+
+    @Benchmark
+    public Object createScope() {
+        return container.scope().create(Service.class);
+    }
+}
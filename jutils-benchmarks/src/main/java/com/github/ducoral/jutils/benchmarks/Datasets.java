@@ -0,0 +1,95 @@
+package com.github.ducoral.jutils.benchmarks;
+
+import com.github.ducoral.jutils.Core;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Massas de dados geradas deterministicamente (mesma semente), para que os resultados de execuções diferentes
+ * sejam comparáveis.
+ */
+public final class Datasets {
+
+    /**
+     * Quantidade de registros de cada massa de dados.
+     */
+    public enum Size {
+        SMALL(10), MEDIUM(1_000), HUGE(100_000);
+
+        public final int records;
+
+        Size(int records) {
+            this.records = records;
+        }
+    }
+
+    private static final long SEED = 42;
+
+    private static final String[] NAMES = {"Ana", "Bruno", "Carla", "Diego", "Elisa", "Fábio", "Gabriela", "Heitor"};
+
+    private static final String[] TAGS = {"new", "vip", "blocked", "partner", "trial", "internal"};
+
+    /**
+     * Registros com o formato típico de uma API: identificador, textos, números inteiros e decimais, booleanos,
+     * listas e objetos aninhados.
+     *
+     * @param count quantidade de registros.
+     * @return lista de registros, como {@link Map}.
+     */
+    public static List<Object> records(int count) {
+        Random random = new Random(SEED);
+        List<Object> records = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            Map<String, Object> address = new LinkedHashMap<>();
+            address.put("street", "Rua " + NAMES[random.nextInt(NAMES.length)] + ", " + random.nextInt(5000));
+            address.put("city", random.nextBoolean() ? "São Paulo" : "Porto Alegre");
+            address.put("zip", String.valueOf(10_000_000 + random.nextInt(89_999_999)));
+            Map<String, Object> record = new LinkedHashMap<>();
+            record.put("id", BigInteger.valueOf(index));
+            record.put("name", NAMES[random.nextInt(NAMES.length)] + " " + NAMES[random.nextInt(NAMES.length)]);
+            record.put("active", random.nextBoolean());
+            record.put("balance", BigDecimal.valueOf(random.nextInt(10_000_000), 2));
+            record.put("tags", Arrays.asList(TAGS[random.nextInt(TAGS.length)], TAGS[random.nextInt(TAGS.length)]));
+            record.put("address", address);
+            records.add(record);
+        }
+        return records;
+    }
+
+    /**
+     * @param size tamanho da massa de dados.
+     * @return <i>array</i> JSON com os registros de {@link #records(int)}.
+     */
+    public static String json(Size size) {
+        return Core.json(records(size.records));
+    }
+
+    /**
+     * @param size tamanho da massa de dados.
+     * @return documento XML com os registros de {@link #records(int)}, com atributos e elementos aninhados.
+     */
+    @SuppressWarnings("unchecked")
+    public static String xml(Size size) {
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<records>\n");
+        for (Object item : records(size.records)) {
+            Map<String, Object> record = (Map<String, Object>) item;
+            Map<String, Object> address = (Map<String, Object>) record.get("address");
+            xml.append("  <record id=\"").append(record.get("id")).append("\" active=\"").append(record.get("active"))
+                    .append("\">\n    <name>").append(record.get("name")).append("</name>\n    <balance>")
+                    .append(record.get("balance")).append("</balance>\n    <address city=\"").append(address.get("city"))
+                    .append("\">\n      <street>").append(address.get("street")).append("</street>\n      <zip>")
+                    .append(address.get("zip")).append("</zip>\n    </address>\n  </record>\n");
+        }
+        return xml.append("</records>\n").toString();
+    }
+
+    private Datasets() {
+    }
+}
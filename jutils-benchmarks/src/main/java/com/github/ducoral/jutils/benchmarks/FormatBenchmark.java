@@ -0,0 +1,78 @@
+package com.github.ducoral.jutils.benchmarks;
+
+import com.github.ducoral.jutils.Core;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formatação de <i>templates</i> ({@link Core#format(String, Map)} e {@link Core#format(String, Object...)}) e de
+ * datas ({@link Core#format(Date, String)} e {@link Core#json(Object)}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class FormatBenchmark {
+
+    private static final String NAMED = "Olá ${name}, seu pedido ${order.id} de ${total} foi enviado para ${city}.";
+
+    private static final String POSITIONAL = "Olá %0, seu pedido %1 de %2 foi enviado para %3.";
+
+    private Map<String, Object> scope;
+
+    private Date date;
+
+    private LocalDateTime dateTime;
+
+    @Setup
+    public void setup() {
+        scope = Core.map()
+                .pair("${name}", "Ana Souza")
+                .pair("${order.id}", 123456)
+                .pair("${total}", "R$ 1.234,56")
+                .pair("${city}", "Porto Alegre")
+                .done();
+        date = new Date(1_600_000_000_000L);
+        dateTime = LocalDateTime.of(2020, 9, 13, 12, 26, 40);
+    }
+
+    @Benchmark
+    public String named() {
+        return Core.format(NAMED, scope);
+    }
+
+    @Benchmark
+    public String positional() {
+        return Core.format(POSITIONAL, "Ana Souza", 123456, "R$ 1.234,56", "Porto Alegre");
+    }
+
+    @Benchmark
+    public String date() {
+        return Core.format(date, "dd/MM/yyyy HH:mm:ss");
+    }
+
+    @Benchmark
+    public String jsonDate() {
+        return Core.json(date);
+    }
+
+    @Benchmark
+    public String dateTime() {
+        return Core.format(dateTime, "dd/MM/yyyy HH:mm:ss");
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.ducoral.jutils.benchmarks;
+
+import com.github.ducoral.jutils.Core;
+import com.github.ducoral.jutils.JDBC;
+import com.github.ducoral.jutils.Oops;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapeamento de <i>result sets</i> largos, de um banco H2 em memória, via {@link Core#map(ResultSet)} e
+ * {@link Core#table(ResultSet, Core.Align...)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class JdbcBenchmark {
+
+    private static final int COLUMNS = 40;
+
+    private static final String SELECT = "select * from wide";
+
+    @Param({"100", "10000"})
+    public int rows;
+
+    private Connection connection;
+
+    @Setup
+    public void setup() throws SQLException {
+        connection = JDBC.connection("jdbc:h2:mem:jutils" + rows + ";DB_CLOSE_DELAY=-1", "sa", "");
+        String[] columns = new String[COLUMNS];
+        for (int column = 0; column < COLUMNS; column++)
+            columns[column] = "c" + column + (column % 4 == 0 ? " integer" : column % 4 == 1 ? " varchar(40)"
+                    : column % 4 == 2 ? " decimal(12, 2)" : " date");
+        JDBC.create(connection, "wide", columns);
+        Random random = new Random(42);
+        StringBuilder sql = new StringBuilder("insert into wide values(?");
+        for (int column = 1; column < COLUMNS; column++)
+            sql.append(", ?");
+        try (PreparedStatement insert = JDBC.prepare(connection, sql.append(')'))) {
+            for (int row = 0; row < rows; row++) {
+                for (int column = 0; column < COLUMNS; column++)
+                    insert.setObject(column + 1, column % 4 == 0 ? (Object) random.nextInt()
+                            : column % 4 == 1 ? "value " + row + " " + random.nextInt(1000)
+                            : column % 4 == 2 ? BigDecimal.valueOf(random.nextInt(10_000_000), 2)
+                            : new Date(1_600_000_000_000L + random.nextInt(1_000_000_000)));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        JDBC.execute(connection, "drop all objects");
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> map() {
+        ResultSet rs = JDBC.select(connection, SELECT);
+        try (Statement statement = rs.getStatement()) {
+            List<Map<String, Object>> maps = new ArrayList<>(rows);
+            while (JDBC.next(rs))
+                maps.add(Core.map(rs).done());
+            return maps;
+        } catch (SQLException e) {
+            throw Oops.of(e);
+        }
+    }
+
+    @Benchmark
+    public String table() {
+        ResultSet rs = JDBC.select(connection, SELECT);
+        try (Statement statement = rs.getStatement()) {
+            return Core.table(rs);
+        } catch (SQLException e) {
+            throw Oops.of(e);
+        }
+    }
+}
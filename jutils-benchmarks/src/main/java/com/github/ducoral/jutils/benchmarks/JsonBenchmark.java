@@ -0,0 +1,68 @@
+package com.github.ducoral.jutils.benchmarks;
+
+import com.github.ducoral.jutils.Core;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização e leitura de JSON ({@link Core#json(Object)}, {@link Core#parseJson(String)} e variantes). O formato
+ * binário equivalente é medido em {@link BinaryBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "HUGE"})
+    public Datasets.Size size;
+
+    private List<Object> records;
+
+    private String document;
+
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setup() {
+        records = Datasets.records(size.records);
+        document = Core.json(records);
+        buffer = ByteBuffer.wrap(document.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public String json() {
+        return Core.json(records);
+    }
+
+    @Benchmark
+    public Object parseJson() {
+        return Core.parseJson(document);
+    }
+
+    @Benchmark
+    public Object parseJsonBuffer() {
+        return Core.parseJson(buffer.duplicate());
+    }
+
+    @Benchmark
+    public Object parseJsonParallel() {
+        return Core.parseJsonParallel(document);
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.ducoral.jutils.benchmarks;
+
+import com.github.ducoral.jutils.XML;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leitura de documentos XML via {@link XML#root(String)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class XmlBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "HUGE"})
+    public Datasets.Size size;
+
+    private String document;
+
+    @Setup
+    public void setup() {
+        document = Datasets.xml(size);
+    }
+
+    @Benchmark
+    public XML.Element root() {
+        return XML.root(document);
+    }
+}
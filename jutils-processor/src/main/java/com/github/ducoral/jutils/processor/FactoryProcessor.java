@@ -0,0 +1,178 @@
+package com.github.ducoral.jutils.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Processador de anotações que gera, em tempo de compilação, implementações de <code>Core.Factory</code> para as
+ * classes anotadas com <code>{@literal @}Core.Singleton</code> e para as implementações configuradas em
+ * <code>{@literal @}Core.Bean</code>.
+ * <br/><br/>
+ * Para a classe <code>ConfigImpl</code> do pacote <code>app</code>, por exemplo, é gerada a classe
+ * <code>app.ConfigImpl_Factory</code>, que chama a construtora diretamente, sem <i>Reflection</i>. Classes
+ * aninhadas têm o nome das classes e interfaces externas como prefixo, como <code>app.Outer_Inner_Factory</code>.
+ * Como esse nome também corresponde a uma classe <code>app.Outer_Inner</code>, a fábrica informa o tipo que cria em
+ * <code>type()</code>, verificado pelo contêiner, e somente a primeira das classes com o mesmo nome de fábrica tem
+ * a fábrica gerada.
+ * <br/><br/>
+ * A fábrica não é gerada quando a classe não pode ser instanciada a partir do seu pacote (classe abstrata,
+ * privada ou interna não estática, construtora privada), quando contém mais de uma construtora ou quando algum
+ * parâmetro da construtora é anotado com <code>{@literal @}Core.Lazy</code>. Nesses casos, o contêiner continua
+ * criando as instâncias via <i>Reflection</i>.
+ */
+@SupportedAnnotationTypes({ FactoryProcessor.BEAN, FactoryProcessor.SINGLETON })
+public class FactoryProcessor extends AbstractProcessor {
+
+    static final String CORE = "com.github.ducoral.jutils.Core";
+
+    static final String BEAN = CORE + ".Bean";
+
+    static final String SINGLETON = CORE + ".Singleton";
+
+    static final String LAZY = CORE + ".Lazy";
+
+    static final String SUFFIX = "_Factory";
+
+    private final Set<String> generated = new HashSet<>();
+
+    private final Set<String> factories = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        for (TypeElement annotation : annotations) {
+            String name = annotation.getQualifiedName().toString();
+            for (Element element : round.getElementsAnnotatedWith(annotation))
+                if (name.equals(BEAN))
+                    generate(implementation(element, annotation));
+                else if (element.getKind() == ElementKind.CLASS)
+                    generate((TypeElement) element);
+        }
+        return false;
+    }
+
+    private TypeElement implementation(Element element, TypeElement annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors())
+            if (mirror.getAnnotationType().asElement().equals(annotation))
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                        : mirror.getElementValues().entrySet())
+                    if (entry.getKey().getSimpleName().contentEquals("type")
+                            && entry.getValue().getValue() instanceof DeclaredType)
+                        return (TypeElement) ((DeclaredType) entry.getValue().getValue()).asElement();
+        return null;
+    }
+
+    private void generate(TypeElement type) {
+        if (type == null || !generated.add(type.getQualifiedName().toString()))
+            return;
+        ExecutableElement constructor = constructor(type);
+        if (constructor == null)
+            return;
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String factoryName = factoryName(type);
+        String qualifiedName = packageName.isEmpty() ? factoryName : packageName + '.' + factoryName;
+        if (!factories.add(qualifiedName)) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Factory " + qualifiedName + " already generated for another type", type);
+            return;
+        }
+        try (PrintWriter writer = new PrintWriter(processingEnv.getFiler()
+                .createSourceFile(qualifiedName, type)
+                .openWriter())) {
+            write(writer, packageName, factoryName, type, constructor.getParameters());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), type);
+        }
+    }
+
+    private void write(PrintWriter writer, String packageName, String factoryName, TypeElement type,
+                       List<? extends VariableElement> parameters) {
+        writer.println("// Generated by " + getClass().getName());
+        if (!packageName.isEmpty())
+            writer.println("package " + packageName + ";");
+        writer.println();
+        writer.println("public final class " + factoryName + " implements " + CORE + ".Factory {");
+        writer.println();
+        writer.println("    public Class<?> type() {");
+        writer.println("        return " + type.getQualifiedName() + ".class;");
+        writer.println("    }");
+        writer.println();
+        writer.println("    public Class<?>[] dependencies() {");
+        writer.print("        return new Class<?>[] {");
+        for (int index = 0; index < parameters.size(); index++)
+            writer.print((index == 0 ? " " : ", ") + erasure(parameters.get(index).asType()) + ".class");
+        writer.println(parameters.isEmpty() ? "};" : " };");
+        writer.println("    }");
+        writer.println();
+        writer.println("    @SuppressWarnings(\"unchecked\")");
+        writer.println("    public Object create(Object[] dependencies) throws Exception {");
+        writer.print("        return new " + type.getQualifiedName() + "(");
+        for (int index = 0; index < parameters.size(); index++)
+            writer.print((index == 0 ? "" : ", ") + "(" + parameters.get(index).asType() + ") dependencies[" + index + "]");
+        writer.println(");");
+        writer.println("    }");
+        writer.println("}");
+    }
+
+    private ExecutableElement constructor(TypeElement type) {
+        if (!isInstantiable(type))
+            return null;
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+        if (constructors.size() != 1 || constructors.get(0).getModifiers().contains(Modifier.PRIVATE))
+            return null;
+        for (VariableElement parameter : constructors.get(0).getParameters())
+            if (parameter.asType().getKind() != TypeKind.DECLARED || isAnnotatedWith(parameter, LAZY))
+                return null;
+        return constructors.get(0);
+    }
+
+    private boolean isInstantiable(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT))
+            return false;
+        for (Element element = type; element.getKind() != ElementKind.PACKAGE;
+             element = element.getEnclosingElement())
+            if (!(element instanceof TypeElement)
+                    || element.getModifiers().contains(Modifier.PRIVATE)
+                    || (element.getEnclosingElement().getKind().isClass()
+                        && !element.getModifiers().contains(Modifier.STATIC)))
+                return false;
+        return true;
+    }
+
+    private boolean isAnnotatedWith(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors())
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation))
+                return true;
+        return false;
+    }
+
+    private String erasure(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    static String factoryName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element element = type.getEnclosingElement(); element.getKind() != ElementKind.PACKAGE;
+             element = element.getEnclosingElement())
+            name.insert(0, element.getSimpleName() + "_");
+        return name.append(SUFFIX).toString();
+    }
+}
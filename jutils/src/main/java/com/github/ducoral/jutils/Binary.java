@@ -0,0 +1,623 @@
+package com.github.ducoral.jutils;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.ducoral.jutils.Constants.Strings.BINARY_INVALID_CONTENT;
+import static com.github.ducoral.jutils.Constants.Strings.BINARY_UNSUPPORTED_TYPE;
+
+/**
+ * Formato binário compacto para o mesmo modelo de dados de {@link Core#json(Object)}: <code>null</code>,
+ * {@link Boolean}, {@link Number}, {@link CharSequence}, {@link List}, {@link Map}, {@link Date}, {@link Time},
+ * {@link LocalDate}, {@link LocalDateTime}, {@link LocalTime}, {@link Instant}, {@link OffsetDateTime},
+ * {@link OffsetTime}, {@link ZonedDateTime} e demais objetos (pelos seus campos declarados), evitando a conversão
+ * de números e datas para texto e a sua leitura posterior. Os demais tipos de <code>java.time</code> não são
+ * suportados.
+ * <br/><br/>
+ * Cada valor é precedido por um byte com o seu tipo. Inteiros são gravados como <i>varint</i> (com codificação
+ * <i>zigzag</i>), <i>strings</i> em UTF-8 precedidas pela quantidade de bytes, e listas e mapas precedidos pela
+ * quantidade de elementos. Na leitura, inteiros resultam em {@link Long} (ou {@link BigInteger}, quando excedem
+ * <code>long</code>), e números de ponto flutuante em {@link Double} (ou {@link BigDecimal}, quando gravados a
+ * partir de {@link BigDecimal}).
+ * <br/><br/>
+ * Opcionalmente, as chaves dos mapas são gravadas uma única vez por {@link Encoder}, e referenciadas pela sua
+ * posição nas ocorrências seguintes. O dicionário é construído durante a própria gravação e leitura, de forma que
+ * os valores de um mesmo {@link Encoder} devem ser lidos, na ordem, por um mesmo {@link Decoder}.
+ */
+public final class Binary {
+
+    private static final int NULL = 0, FALSE = 1, TRUE = 2, INTEGER = 3, BIG_INTEGER = 4, DOUBLE = 5,
+            BIG_DECIMAL = 6, STRING = 7, LIST = 8, MAP = 9, KEY = 10, KEY_REFERENCE = 11, DATE = 12, TIME = 13,
+            LOCAL_DATE = 14, LOCAL_DATE_TIME = 15, LOCAL_TIME = 16, INSTANT = 17, OFFSET_DATE_TIME = 18,
+            OFFSET_TIME = 19, ZONED_DATE_TIME = 20;
+
+    private static final int MAX_KEYS = 4096;
+
+    private static final int BUFFER_SIZE = 1 << 13;
+
+    /**
+     * Gravação de valores no formato binário em um {@link OutputStream}, através de um buffer, ou em memória.
+     */
+    public static final class Encoder implements Closeable, Flushable {
+
+        private final OutputStream output;
+
+        private final Map<String, Integer> keys;
+
+        private byte[] buffer = new byte[BUFFER_SIZE];
+
+        private int count;
+
+        private Encoder(OutputStream output, boolean dictionary) {
+            this.output = output;
+            this.keys = dictionary ? new HashMap<>() : null;
+        }
+
+        /**
+         * Grava o valor especificado por parâmetro.
+         *
+         * @param value valor a ser gravado.
+         * @return o próprio {@link Encoder}.
+         */
+        public Encoder write(Object value) {
+            if (value == null)
+                tag(NULL);
+            else if (value instanceof Boolean)
+                tag((Boolean) value ? TRUE : FALSE);
+            else if (value instanceof Number)
+                writeNumber((Number) value);
+            else if (value instanceof CharSequence || value instanceof Character)
+                writeString(STRING, value.toString());
+            else if (value instanceof List) {
+                List<?> list = (List<?>) value;
+                tag(LIST);
+                writeVarint(list.size());
+                for (Object item : list)
+                    write(item);
+            } else if (value instanceof Map) {
+                Map<?, ?> map = (Map<?, ?>) value;
+                tag(MAP);
+                writeVarint(map.size());
+                map.forEach((key, item) -> {
+                    writeKey(String.valueOf(key));
+                    write(item);
+                });
+            } else if (value instanceof Time) {
+                tag(TIME);
+                writeVarint(zigzag(((Time) value).getTime()));
+            } else if (value instanceof Date) {
+                tag(DATE);
+                writeVarint(zigzag(((Date) value).getTime()));
+            } else if (value instanceof LocalDate) {
+                tag(LOCAL_DATE);
+                writeVarint(zigzag(((LocalDate) value).toEpochDay()));
+            } else if (value.getClass().getName().startsWith("java.time."))
+                writeTemporal(value);
+            else
+                writeFields(value);
+            return this;
+        }
+
+        public void flush() {
+            if (output == null)
+                return;
+            try {
+                output.write(buffer, 0, count);
+                count = 0;
+                output.flush();
+            } catch (IOException e) {
+                throw Oops.of(e);
+            }
+        }
+
+        public void close() {
+            flush();
+            try {
+                if (output != null)
+                    output.close();
+            } catch (IOException e) {
+                throw Oops.of(e);
+            }
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, count);
+        }
+
+        private void writeNumber(Number value) {
+            if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+                tag(INTEGER);
+                writeVarint(zigzag(value.longValue()));
+            } else if (value instanceof BigInteger) {
+                BigInteger integer = (BigInteger) value;
+                if (integer.bitLength() < Long.SIZE) {
+                    tag(INTEGER);
+                    writeVarint(zigzag(integer.longValue()));
+                } else {
+                    tag(BIG_INTEGER);
+                    writeBytes(integer.toByteArray());
+                }
+            } else if (value instanceof BigDecimal) {
+                BigDecimal decimal = (BigDecimal) value;
+                tag(BIG_DECIMAL);
+                writeVarint(zigzag(decimal.scale()));
+                writeBytes(decimal.unscaledValue().toByteArray());
+            } else {
+                tag(DOUBLE);
+                long bits = Double.doubleToLongBits(value.doubleValue());
+                require(Long.BYTES);
+                for (int shift = 56; shift >= 0; shift -= 8)
+                    buffer[count++] = (byte) (bits >>> shift);
+            }
+        }
+
+        /*
+         * Data e hora como dia a partir da época e nanossegundo do dia, e o deslocamento em segundos e o fuso
+         * horário, quando presentes. Os demais tipos de java.time não são gravados pelos seus campos, que incluem
+         * constantes estáticas do próprio tipo.
+         */
+        private void writeTemporal(Object value) {
+            if (value instanceof LocalDateTime) {
+                tag(LOCAL_DATE_TIME);
+                writeDateTime((LocalDateTime) value);
+            } else if (value instanceof LocalTime) {
+                tag(LOCAL_TIME);
+                writeVarint(((LocalTime) value).toNanoOfDay());
+            } else if (value instanceof Instant) {
+                tag(INSTANT);
+                writeVarint(zigzag(((Instant) value).getEpochSecond()));
+                writeVarint(((Instant) value).getNano());
+            } else if (value instanceof OffsetDateTime) {
+                tag(OFFSET_DATE_TIME);
+                writeDateTime(((OffsetDateTime) value).toLocalDateTime());
+                writeVarint(zigzag(((OffsetDateTime) value).getOffset().getTotalSeconds()));
+            } else if (value instanceof OffsetTime) {
+                tag(OFFSET_TIME);
+                writeVarint(((OffsetTime) value).toLocalTime().toNanoOfDay());
+                writeVarint(zigzag(((OffsetTime) value).getOffset().getTotalSeconds()));
+            } else if (value instanceof ZonedDateTime) {
+                tag(ZONED_DATE_TIME);
+                writeDateTime(((ZonedDateTime) value).toLocalDateTime());
+                writeVarint(zigzag(((ZonedDateTime) value).getOffset().getTotalSeconds()));
+                writeBytes(((ZonedDateTime) value).getZone().getId().getBytes(StandardCharsets.UTF_8));
+            } else
+                throw Oops.of(BINARY_UNSUPPORTED_TYPE, value.getClass().getName());
+        }
+
+        private void writeDateTime(LocalDateTime value) {
+            writeVarint(zigzag(value.toLocalDate().toEpochDay()));
+            writeVarint(value.toLocalTime().toNanoOfDay());
+        }
+
+        private void writeKey(String key) {
+            if (keys == null) {
+                writeString(STRING, key);
+                return;
+            }
+            Integer index = keys.get(key);
+            if (index != null) {
+                tag(KEY_REFERENCE);
+                writeVarint(index);
+            } else if (keys.size() < MAX_KEYS) {
+                keys.put(key, keys.size());
+                writeString(KEY, key);
+            } else
+                writeString(STRING, key);
+        }
+
+        /*
+         * Strings somente com caracteres ASCII são copiadas diretamente para o buffer, sem codificação UTF-8.
+         */
+        private void writeString(int tag, String value) {
+            tag(tag);
+            int length = value.length();
+            int index = 0;
+            while (index < length && value.charAt(index) < 0x80)
+                index++;
+            if (index < length) {
+                writeBytes(value.getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            writeVarint(length);
+            require(length);
+            for (index = 0; index < length; index++)
+                buffer[count++] = (byte) value.charAt(index);
+        }
+
+        private void writeFields(Object value) {
+            try {
+                Field[] fields = value.getClass().getDeclaredFields();
+                tag(MAP);
+                writeVarint(fields.length);
+                for (Field field : fields) {
+                    writeKey(field.getName());
+                    write(field.get(value));
+                }
+            } catch (IllegalAccessException e) {
+                throw Oops.of(e);
+            }
+        }
+
+        private void writeBytes(byte[] bytes) {
+            writeVarint(bytes.length);
+            require(bytes.length);
+            System.arraycopy(bytes, 0, buffer, count, bytes.length);
+            count += bytes.length;
+        }
+
+        private void writeVarint(long value) {
+            require(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[count++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[count++] = (byte) value;
+        }
+
+        private void tag(int tag) {
+            require(1);
+            buffer[count++] = (byte) tag;
+        }
+
+        /*
+         * Garante espaço para mais size bytes no buffer, descarregando-o no stream ou, em memória, ampliando-o.
+         */
+        private void require(int size) {
+            if (count + size <= buffer.length)
+                return;
+            if (output != null) {
+                try {
+                    output.write(buffer, 0, count);
+                    count = 0;
+                } catch (IOException e) {
+                    throw Oops.of(e);
+                }
+            }
+            if (count + size > buffer.length)
+                buffer = Arrays.copyOf(buffer, Math.max(count + size, buffer.length * 2));
+        }
+    }
+
+    /**
+     * Leitura de valores no formato binário a partir de um {@link ByteBuffer} ou de um {@link InputStream}.
+     */
+    public static final class Decoder {
+
+        private final InputStream input;
+
+        private final List<String> keys = new ArrayList<>();
+
+        private ByteBuffer buffer;
+
+        private Decoder(ByteBuffer buffer, InputStream input) {
+            this.buffer = buffer;
+            this.input = input;
+        }
+
+        /**
+         * Indica se há mais valores a serem lidos.
+         *
+         * @return <code>true</code> se há mais valores a serem lidos.
+         */
+        public boolean hasNext() {
+            return buffer.hasRemaining() || fill(1);
+        }
+
+        /**
+         * Lê o próximo valor.
+         *
+         * @return o valor lido.
+         * @throws Oops se o conteúdo terminar antes do fim do valor, ou não estiver no formato binário.
+         */
+        public Object read() {
+            try {
+                return readValue(0);
+            } catch (NumberFormatException | ArithmeticException | DateTimeException e) {
+                throw Oops.of(e, BINARY_INVALID_CONTENT, e.getMessage());
+            }
+        }
+
+        /*
+         * Tamanhos e quantidades lidos do conteúdo são validados antes de qualquer alocação: listas são
+         * pré-dimensionadas no máximo pelos bytes restantes no buffer, já que cada elemento ocupa ao menos um byte.
+         */
+        private Object readValue(int depth) {
+            if (depth > JsonParser.DEFAULT_MAX_DEPTH)
+                throw Oops.of(BINARY_INVALID_CONTENT, "depth");
+            int tag = readByte();
+            switch (tag) {
+                case NULL: return null;
+                case FALSE: return Boolean.FALSE;
+                case TRUE: return Boolean.TRUE;
+                case INTEGER: return unzigzag(readVarint());
+                case BIG_INTEGER: return new BigInteger(readBytes());
+                case DOUBLE: {
+                    require(Long.BYTES);
+                    return Double.longBitsToDouble(buffer.getLong());
+                }
+                case BIG_DECIMAL: {
+                    long scale = unzigzag(readVarint());
+                    if (scale != (int) scale)
+                        throw Oops.of(BINARY_INVALID_CONTENT, "scale");
+                    return new BigDecimal(new BigInteger(readBytes()), (int) scale);
+                }
+                case STRING: return readString();
+                case LIST: {
+                    int size = readLength();
+                    List<Object> list = new ArrayList<>(Math.min(size, buffer.remaining()));
+                    for (int index = 0; index < size; index++)
+                        list.add(readValue(depth + 1));
+                    return list;
+                }
+                case MAP: {
+                    int size = readLength();
+                    Map<String, Object> map = new LinkedHashMap<>();
+                    for (int index = 0; index < size; index++)
+                        map.put(readKey(), readValue(depth + 1));
+                    return map;
+                }
+                case DATE: return new Date(unzigzag(readVarint()));
+                case TIME: return new Time(unzigzag(readVarint()));
+                case LOCAL_DATE: return LocalDate.ofEpochDay(unzigzag(readVarint()));
+                case LOCAL_DATE_TIME: return readDateTime();
+                case LOCAL_TIME: return LocalTime.ofNanoOfDay(readVarint());
+                case INSTANT: return Instant.ofEpochSecond(unzigzag(readVarint()), readVarint());
+                case OFFSET_DATE_TIME: return OffsetDateTime.of(readDateTime(), readOffset());
+                case OFFSET_TIME: return OffsetTime.of(LocalTime.ofNanoOfDay(readVarint()), readOffset());
+                case ZONED_DATE_TIME: {
+                    LocalDateTime dateTime = readDateTime();
+                    ZoneOffset offset = readOffset();
+                    ZoneId zone = ZoneId.of(new String(readBytes(), StandardCharsets.UTF_8));
+                    return ZonedDateTime.ofLocal(dateTime, zone, offset);
+                }
+                default: throw Oops.of(BINARY_INVALID_CONTENT, tag);
+            }
+        }
+
+        private LocalDateTime readDateTime() {
+            LocalDate date = LocalDate.ofEpochDay(unzigzag(readVarint()));
+            return LocalDateTime.of(date, LocalTime.ofNanoOfDay(readVarint()));
+        }
+
+        private ZoneOffset readOffset() {
+            long seconds = unzigzag(readVarint());
+            if (seconds != (int) seconds)
+                throw Oops.of(BINARY_INVALID_CONTENT, "offset");
+            return ZoneOffset.ofTotalSeconds((int) seconds);
+        }
+
+        private String readKey() {
+            int tag = readByte();
+            if (tag == KEY_REFERENCE) {
+                long index = readVarint();
+                if (index < 0 || index >= keys.size())
+                    throw Oops.of(BINARY_INVALID_CONTENT, "key " + index);
+                return keys.get((int) index);
+            }
+            if (tag != KEY && tag != STRING)
+                throw Oops.of(BINARY_INVALID_CONTENT, tag);
+            String key = readString();
+            if (tag == KEY)
+                keys.add(key);
+            return key;
+        }
+
+        private String readString() {
+            int length = readLength();
+            if (buffer.remaining() < length && input != null)
+                return new String(readRaw(length), StandardCharsets.UTF_8);
+            require(length);
+            String value;
+            if (buffer.hasArray())
+                value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                        StandardCharsets.UTF_8);
+            else {
+                byte[] bytes = new byte[length];
+                buffer.get(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+            ((Buffer) buffer).position(buffer.position() + length);
+            return value;
+        }
+
+        private byte[] readBytes() {
+            int length = readLength();
+            if (buffer.remaining() < length && input != null)
+                return readRaw(length);
+            require(length);
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            return bytes;
+        }
+
+        /*
+         * Lê length bytes que ainda não estão no buffer, sem ampliá-lo. O array de destino cresce conforme o
+         * conteúdo do stream é efetivamente lido, de forma que um tamanho inválido não resulta na alocação
+         * antecipada de toda a memória informada.
+         */
+        private byte[] readRaw(int length) {
+            byte[] bytes = new byte[Math.min(length, Math.max(buffer.capacity(), BUFFER_SIZE))];
+            int count = 0;
+            while (count < length) {
+                if (!buffer.hasRemaining() && !fill(1))
+                    throw Oops.of(new EOFException());
+                if (count == bytes.length)
+                    bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * bytes.length));
+                int read = Math.min(buffer.remaining(), bytes.length - count);
+                buffer.get(bytes, count, read);
+                count += read;
+            }
+            return bytes;
+        }
+
+        private int readLength() {
+            long length = readVarint();
+            if (length < 0 || length > Integer.MAX_VALUE)
+                throw Oops.of(BINARY_INVALID_CONTENT, "length " + Long.toUnsignedString(length));
+            return (int) length;
+        }
+
+        private long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                int current = readByte();
+                value |= (long) (current & 0x7F) << shift;
+                if (current < 0x80)
+                    return value;
+            }
+            throw Oops.of(BINARY_INVALID_CONTENT, "varint");
+        }
+
+        private int readByte() {
+            require(1);
+            return buffer.get() & 0xFF;
+        }
+
+        private void require(int size) {
+            if (buffer.remaining() < size && !fill(size))
+                throw Oops.of(new EOFException());
+        }
+
+        /*
+         * Completa o buffer com o conteúdo do stream, ampliando-o quando necessário, até que haja size bytes
+         * restantes, ou o stream termine.
+         */
+        private boolean fill(int size) {
+            if (input == null)
+                return false;
+            try {
+                if (buffer.capacity() < size) {
+                    ByteBuffer larger = ByteBuffer.allocate(Math.max(size, buffer.capacity() * 2));
+                    larger.put(buffer);
+                    buffer = larger;
+                } else
+                    buffer.compact();
+                while (buffer.position() < size) {
+                    int read = input.read(buffer.array(), buffer.arrayOffset() + buffer.position(),
+                            buffer.remaining());
+                    if (read < 0)
+                        break;
+                    ((Buffer) buffer).position(buffer.position() + read);
+                }
+                ((Buffer) buffer).flip();
+                return buffer.remaining() >= size;
+            } catch (IOException e) {
+                throw Oops.of(e);
+            }
+        }
+    }
+
+    /**
+     * Converte o valor para o formato binário, com dicionário de chaves.
+     *
+     * @param value valor a ser convertido.
+     * @return <i>array</i> de bytes com o valor no formato binário.
+     */
+    public static byte[] encode(Object value) {
+        Encoder encoder = new Encoder(null, true);
+        encoder.write(value);
+        return encoder.toByteArray();
+    }
+
+    /**
+     * Lê o valor no formato binário contido em <code>bytes</code>.
+     *
+     * @param bytes valor no formato binário, conforme {@link #encode(Object)}.
+     * @return o valor lido.
+     */
+    public static Object decode(byte[] bytes) {
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Lê um valor no formato binário a partir da posição de <code>buffer</code>, que fica posicionado após ele.
+     *
+     * @param buffer {@link ByteBuffer} com o valor no formato binário.
+     * @return o valor lido.
+     */
+    public static Object decode(ByteBuffer buffer) {
+        return decoder(buffer).read();
+    }
+
+    /**
+     * Retorna novo {@link Encoder} que grava em <code>output</code>, com dicionário de chaves.
+     *
+     * @param output {@link OutputStream} de destino.
+     * @return novo {@link Encoder}.
+     */
+    public static Encoder encoder(OutputStream output) {
+        return encoder(output, true);
+    }
+
+    /**
+     * Retorna novo {@link Encoder} que grava em <code>output</code>.
+     *
+     * @param output {@link OutputStream} de destino.
+     * @param dictionary se <code>true</code>, as chaves repetidas dos mapas são gravadas como referências.
+     * @return novo {@link Encoder}.
+     */
+    public static Encoder encoder(OutputStream output, boolean dictionary) {
+        return new Encoder(output, dictionary);
+    }
+
+    /**
+     * Retorna novo {@link Decoder} que lê os valores a partir da posição de <code>buffer</code>, avançando-a.
+     *
+     * @param buffer {@link ByteBuffer} de origem.
+     * @return novo {@link Decoder}.
+     */
+    public static Decoder decoder(ByteBuffer buffer) {
+        return new Decoder(buffer, null);
+    }
+
+    /**
+     * Retorna novo {@link Decoder} que lê os valores de <code>input</code>, através de um buffer.
+     *
+     * @param input {@link InputStream} de origem.
+     * @return novo {@link Decoder}.
+     */
+    public static Decoder decoder(InputStream input) {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        ((Buffer) buffer).flip();
+        return new Decoder(buffer, input);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private Binary() {
+    }
+}
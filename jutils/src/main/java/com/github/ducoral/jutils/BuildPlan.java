@@ -0,0 +1,138 @@
+package com.github.ducoral.jutils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/*
+ * Plano de construção de uma classe por Core.build: MethodHandle da construtora sem parâmetros e dos setters dos
+ * campos declarados, na ordem de getDeclaredFields, obtidos uma única vez por classe. Os setters utilizados por
+ * Core.set são os do plano da classe que declara o campo, de forma que nenhum MethodHandle é mantido fora do
+ * ClassValue, que não impede que a classe seja descarregada.
+ *
+ * Cada setter é obtido somente no primeiro uso do campo, já que Field.setAccessible falha para campos de classes
+ * de módulos não abertos, como as do JDK. Assim, build com menos valores que campos não depende dos campos
+ * restantes, e a falha de um campo é guardada no lugar do seu setter e lançada como Oops a cada atribuição.
+ * Setters obtidos concorrentemente são equivalentes, e qualquer um deles pode ser mantido.
+ *
+ * Os setters têm a forma (Object, Object) -> void e convertem o valor para o tipo do campo (unboxing, no caso de
+ * campos primitivos) dentro do próprio MethodHandle. Campos final, que não podem ser alterados via MethodHandle,
+ * são alterados via Field.set.
+ */
+final class BuildPlan<T> {
+
+    private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<BuildPlan<?>> plans = new ClassValue<BuildPlan<?>>() {
+        protected BuildPlan<?> computeValue(Class<?> type) {
+            return new BuildPlan<>(type);
+        }
+    };
+
+    private final MethodHandle constructor;
+
+    /*
+     * Motivo pelo qual a construtora não pôde ser obtida, lançado somente por build, já que o plano também é
+     * utilizado por Core.set em classes sem construtora sem parâmetros.
+     */
+    private final Exception missingConstructor;
+
+    private static final MethodHandle FAIL;
+
+    static {
+        try {
+            FAIL = MethodHandles.lookup().findStatic(BuildPlan.class, "fail",
+                    MethodType.methodType(void.class, Exception.class, Object.class, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Field[] declared;
+
+    private final AtomicReferenceArray<MethodHandle> fields;
+
+    private final Map<Field, Integer> indexes = new HashMap<>();
+
+    private BuildPlan(Class<T> type) {
+        MethodHandle handle = null;
+        Exception missing = null;
+        try {
+            Constructor<T> declared = type.getDeclaredConstructor();
+            declared.setAccessible(true);
+            handle = MethodHandles.lookup()
+                    .unreflectConstructor(declared)
+                    .asType(MethodType.methodType(Object.class));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            missing = e;
+        }
+        constructor = handle;
+        missingConstructor = missing;
+        declared = type.getDeclaredFields();
+        fields = new AtomicReferenceArray<>(declared.length);
+        for (int index = 0; index < declared.length; index++)
+            indexes.put(declared[index], index);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> BuildPlan<T> of(Class<T> type) {
+        return (BuildPlan<T>) plans.get(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    T build(Object[] args) {
+        if (constructor == null)
+            throw Oops.of(missingConstructor);
+        try {
+            Object object = constructor.invokeExact();
+            int count = Math.min(args.length, declared.length);
+            for (int index = 0; index < count; index++)
+                setter(index).invokeExact(object, args[index]);
+            return (T) object;
+        } catch (Error | Oops e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new Oops(e.getMessage(), e);
+        }
+    }
+
+    static MethodHandle setter(Field field) {
+        BuildPlan<?> plan = plans.get(field.getDeclaringClass());
+        return plan.setter(plan.indexes.get(field));
+    }
+
+    private MethodHandle setter(int index) {
+        MethodHandle setter = fields.get(index);
+        if (setter == null) {
+            setter = compile(declared[index]);
+            fields.set(index, setter);
+        }
+        return setter;
+    }
+
+    private static MethodHandle compile(Field field) {
+        try {
+            field.setAccessible(true);
+            if (Modifier.isFinal(field.getModifiers()))
+                return MethodHandles.lookup()
+                        .findVirtual(Field.class, "set", SETTER)
+                        .bindTo(field);
+            MethodHandle setter = MethodHandles.lookup().unreflectSetter(field);
+            if (Modifier.isStatic(field.getModifiers()))
+                setter = MethodHandles.dropArguments(setter, 0, Object.class);
+            return setter.asType(SETTER);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return FAIL.bindTo(e);
+        }
+    }
+
+    private static void fail(Exception cause, Object object, Object value) {
+        throw Oops.of(cause);
+    }
+}
@@ -0,0 +1,296 @@
+package com.github.ducoral.jutils;
+
+import com.github.ducoral.jutils.Scanner.Token;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static java.lang.Character.toChars;
+import static com.github.ducoral.jutils.Chunks.ONES;
+import static com.github.ducoral.jutils.Chunks.hasZeroByte;
+import static com.github.ducoral.jutils.Core.*;
+import static com.github.ducoral.jutils.Constants.Strings.*;
+
+/*
+ * Scanner sobre bytes UTF-8, com os mesmos tokens e lexemas de Scanner, mas sem decodificar o conteúdo para String.
+ *
+ * O conteúdo pode ser dividido em vários ByteBuffer (por exemplo, janelas de um arquivo mapeado em memória maior
+ * que 2 GB), todos com o mesmo tamanho, exceto o último. As posições são absolutas (long), de forma que um token
+ * pode atravessar a fronteira entre dois buffers. O token guarda apenas o intervalo dos seus bytes, e o lexema é
+ * decodificado somente quando solicitado.
+ */
+final class ByteScanner implements Lexer {
+
+    private static final int EOF = Chunks.EOF;
+
+    private static final int REPLACEMENT = 0xFFFD;
+
+    private static final long SPACES = ' ' * ONES;
+
+    private static final long BACKSLASHES = '\\' * ONES;
+
+    private final Chunks chunks;
+
+    private final long length;
+
+    private long position;
+
+    private int width;
+
+    private Token token = Token.EOF;
+
+    private long start;
+
+    private long end;
+
+    private boolean escaped;
+
+    private String lexeme;
+
+    private String error = "";
+
+    private byte[] scratch = new byte[64];
+
+    ByteScanner(ByteBuffer... buffers) {
+        this(new Chunks(buffers));
+    }
+
+    ByteScanner(Chunks chunks) {
+        this(chunks, 0, chunks.length);
+    }
+
+    /*
+     * Scanner restrito ao intervalo [from, to) do conteúdo.
+     */
+    ByteScanner(Chunks chunks, long from, long to) {
+        this.chunks = chunks;
+        this.length = to;
+        this.position = from;
+        scan();
+    }
+
+    public Token token() {
+        return token;
+    }
+
+    public String lexeme() {
+        if (lexeme == null)
+            lexeme = decode(start, end, escaped);
+        return lexeme;
+    }
+
+    String error() {
+        return error;
+    }
+
+    long position() {
+        return position;
+    }
+
+    public void scan() {
+        lexeme = null;
+        error = "";
+        escaped = false;
+
+        skipWhitespace();
+        int current = current();
+
+        start = position;
+        if (current == Scanner.CHAR_EOF) {
+            token = Token.EOF;
+            lexeme = "";
+        } else if (current == '-' || Scanner.isDigitChar(current))
+            scanMinusOperatorOrNumber();
+        else if (current == '_' || Scanner.isLetterChar(current))
+            scanNullBooleanOrIdentifier();
+        else if (current == '\'' || current == '"')
+            scanString(current);
+        else {
+            position += width;
+            switch (current) {
+                case '.' : token = Token.DOT; break;
+                case '(' : token = Token.OPEN_PARENTHESES; break;
+                case ')' : token = Token.CLOSE_PARENTHESES; break;
+                case '[' : token = Token.OPEN_BRACKETS; break;
+                case ']' : token = Token.CLOSE_BRACKETS; break;
+                case '{' : token = Token.OPEN_BRACES; break;
+                case '}' : token = Token.CLOSE_BRACES; break;
+                case ',' : token = Token.COMMA; break;
+                case '?' : token = Token.QUESTION_MARK; break;
+                case ':' : token = Token.COLON; break;
+                case '+' : case '*' : case '/' : case '>' : case '<' :
+                case '=' : case '!' : case '&' : case '|' :
+                    scanOperator(current); break;
+                default:
+                    position = start;
+                    error(INVALID_CHARACTER, new String(toChars(current)));
+            }
+            end = position;
+        }
+    }
+
+    private void scanOperator(int previous) {
+        int current = current();
+        if (previous == '=' && current != '=')
+            error(INCORRECT_OPERATOR, "=", "==");
+        else if (previous == '!' && current != '=')
+            error(INCORRECT_OPERATOR, "!", "!=");
+        else if (previous == '&' && current != '&')
+            error(INCORRECT_OPERATOR, "&", "&&");
+        else if (previous == '|' && current != '|')
+            error(INCORRECT_OPERATOR, "|", "||");
+        else {
+            if (current == '=' || current == '&' || current == '|')
+                position += width;
+            token = Token.OPERATOR;
+        }
+    }
+
+    private void scanMinusOperatorOrNumber() {
+        int first = current();
+        position += width;
+        if (first == '-' && !Scanner.isDigitChar(current())) {
+            token = Token.OPERATOR;
+            end = position;
+            return;
+        }
+        skipDigits();
+        if (current() == '.') {
+            position++;
+            skipDigits();
+            int current = current();
+            if (current == 'e' || current == 'E') {
+                position++;
+                current = current();
+                if (current == '-' || current == '+')
+                    position++;
+                if (Scanner.isDigitChar(current())) {
+                    skipDigits();
+                    token = Token.DECIMAL;
+                } else {
+                    end = position;
+                    error(INVALID_DECIMAL, lexeme());
+                }
+            } else
+                token = Token.DECIMAL;
+        } else
+            token = Token.INTEGER;
+        end = position;
+    }
+
+    private void skipDigits() {
+        int current = current();
+        while (Scanner.isDigitChar(current)) {
+            position += width;
+            current = current();
+        }
+    }
+
+    /*
+     * Salta os espaços em blocos de 8 bytes (comuns na indentação), e os demais caracteres um a um.
+     */
+    private void skipWhitespace() {
+        while (chunks.hasWord(position, length) && chunks.word(position) == SPACES)
+            position += Long.BYTES;
+        int current = current();
+        while (Scanner.isWhitespace(current)) {
+            position += width;
+            current = current();
+        }
+    }
+
+    private void scanNullBooleanOrIdentifier() {
+        int current = current();
+        while (Scanner.isIdentifierChar(current)) {
+            position += width;
+            current = current();
+        }
+        end = position;
+        if (matches("null"))
+            token = Token.NULL;
+        else if (matches("true") || matches("false"))
+            token = Token.BOOLEAN;
+        else
+            token = Token.IDENTIFIER;
+    }
+
+    private void scanString(int delimiter) {
+        start = ++position;
+        long delimiters = delimiter * ONES;
+        int current = byteAt(position);
+        while (current != EOF && current != 0 && current != delimiter) {
+            if (current != '\\' && chunks.hasWord(position, length)) {
+                long word = chunks.word(position);
+                if (!hasZeroByte(word) && !hasZeroByte(word ^ delimiters) && !hasZeroByte(word ^ BACKSLASHES)) {
+                    position += Long.BYTES;
+                    current = byteAt(position);
+                    continue;
+                }
+            }
+            if (current == '\\') {
+                escaped = true;
+                position++;
+            }
+            position++;
+            current = byteAt(position);
+        }
+        end = Math.min(position, length);
+        if (current == delimiter) {
+            position++;
+            token = Token.STRING;
+        } else
+            error(STRING_NOT_CLOSED, lexeme());
+    }
+
+    private boolean matches(String word) {
+        if (end - start != word.length())
+            return false;
+        for (int index = 0; index < word.length(); index++)
+            if (byteAt(start + index) != word.charAt(index))
+                return false;
+        return true;
+    }
+
+    /*
+     * Code point na posição corrente, ou CHAR_EOF, guardando em width a quantidade de bytes que ocupa.
+     */
+    private int current() {
+        int first = byteAt(position);
+        width = 1;
+        if (first < 0x80)
+            return first == EOF ? Scanner.CHAR_EOF : first;
+        int count = first >= 0xF0 ? 3 : first >= 0xE0 ? 2 : first >= 0xC0 ? 1 : 0;
+        int codePoint = first & (0x3F >> count);
+        for (int index = 1; index <= count; index++) {
+            int next = byteAt(position + index);
+            if (next < 0x80 || next > 0xBF)
+                return REPLACEMENT;
+            codePoint = (codePoint << 6) | (next & 0x3F);
+        }
+        width = count + 1;
+        return count == 0 ? REPLACEMENT : codePoint;
+    }
+
+    private int byteAt(long index) {
+        return index < length ? chunks.at(index) : EOF;
+    }
+
+    private String decode(long from, long to, boolean escaped) {
+        int size = (int) (to - from);
+        if (scratch.length < size)
+            scratch = new byte[Math.max(size, scratch.length * 2)];
+        int count = 0;
+        for (long index = from; index < to; index++) {
+            int current = byteAt(index);
+            if (escaped && current == '\\')
+                current = ++index < to ? byteAt(index) : Scanner.CHAR_EOF;
+            scratch[count++] = (byte) current;
+        }
+        return new String(scratch, 0, count, StandardCharsets.UTF_8);
+    }
+
+    private void error(String key, Object... args) {
+        token = Token.ERROR;
+        error = property(key, args);
+    }
+}
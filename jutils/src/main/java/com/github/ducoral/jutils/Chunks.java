@@ -0,0 +1,101 @@
+package com.github.ducoral.jutils;
+
+import java.nio.ByteBuffer;
+
+/*
+ * Conteúdo dividido em vários ByteBuffer, todos com o mesmo tamanho, exceto o último, acessado por posição absoluta
+ * (long). Lê os buffers apenas por acesso absoluto, sem alterar as suas posições, de forma que os mesmos buffers
+ * podem ser lidos simultaneamente por várias instâncias, uma por thread.
+ */
+final class Chunks {
+
+    static final int EOF = -1;
+
+    static final long ONES = 0x0101010101010101L;
+
+    static final long HIGHS = 0x8080808080808080L;
+
+    final ByteBuffer[] buffers;
+
+    final long length;
+
+    private final long chunkSize;
+
+    private ByteBuffer chunk;
+
+    private int chunkOffset;
+
+    private long chunkStart;
+
+    private long chunkEnd = -1;
+
+    Chunks(ByteBuffer... buffers) {
+        long total = 0;
+        for (ByteBuffer buffer : buffers)
+            total += buffer.remaining();
+        this.buffers = buffers;
+        this.length = total;
+        this.chunkSize = buffers.length == 0 ? 1 : Math.max(1, buffers[0].remaining());
+    }
+
+    /*
+     * Byte (0 a 255) na posição informada, ou EOF.
+     */
+    int at(long index) {
+        if (index >= length)
+            return EOF;
+        if (index < chunkStart || index >= chunkEnd) {
+            int number = (int) (index / chunkSize);
+            chunk = buffers[number];
+            chunkOffset = chunk.position();
+            chunkStart = number * chunkSize;
+            chunkEnd = chunkStart + chunk.remaining();
+        }
+        return chunk.get(chunkOffset + (int) (index - chunkStart)) & 0xFF;
+    }
+
+    /*
+     * Indica se os 8 bytes a partir de index estão no mesmo buffer e antes de limit, podendo ser lidos de uma vez
+     * por word.
+     */
+    boolean hasWord(long index, long limit) {
+        return index + Long.BYTES <= limit && at(index) != EOF && index + Long.BYTES <= chunkEnd;
+    }
+
+    /*
+     * Os 8 bytes a partir de index, em ordem big-endian. Requer hasWord(index, limit) verdadeiro.
+     */
+    long word(long index) {
+        return chunk.getLong(chunkOffset + (int) (index - chunkStart));
+    }
+
+    /*
+     * Posição da primeira ocorrência do byte value no intervalo [from, to), ou -1. Percorre o conteúdo em blocos de
+     * 8 bytes, descartando de uma vez os blocos sem ocorrência.
+     */
+    long indexOf(int value, long from, long to) {
+        long pattern = value * ONES;
+        long index = from;
+        while (index < to) {
+            if (hasWord(index, to) && !hasZeroByte(word(index) ^ pattern)) {
+                index += Long.BYTES;
+                continue;
+            }
+            if (at(index) == value)
+                return index;
+            index++;
+        }
+        return -1;
+    }
+
+    /*
+     * Indica se algum dos 8 bytes de word é zero (técnica SWAR).
+     */
+    static boolean hasZeroByte(long word) {
+        return ((word - ONES) & ~word & HIGHS) != 0;
+    }
+
+    Chunks copy() {
+        return new Chunks(buffers);
+    }
+}
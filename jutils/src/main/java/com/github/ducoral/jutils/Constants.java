@@ -26,11 +26,19 @@ public final class Constants {
 
         public static final String JSON_TIME_FORMAT = "json.time.format";
         public static final String JSON_DATETIME_FORMAT = "json.datetime.format";
+        public static final String JSON_MAX_DEPTH = "json.max.depth";
+        public static final String NDJSON_LINE_BREAK = "ndjson.line.break";
+        public static final String BINARY_INVALID_CONTENT = "binary.invalid.content";
+        public static final String BINARY_UNSUPPORTED_TYPE = "binary.unsupported.type";
         public static final String CYCLIC_REFERENCE = "cyclic.reference";
+        public static final String FILE_TOO_LARGE = "file.too.large";
+        public static final String NIO_CHANNEL_NOT_BLOCKING = "nio.channel.not.blocking";
+        public static final String NIO_INVALID_CHUNK_SIZE = "nio.invalid.chunk.size";
         public static final String INTERFACE_MUST_BE_ANNOTATED_WITH = "interface.must.be.annotated.with";
         public static final String TYPE_CONTAINS_MORE_THAN_ONE_CONSTRUCTOR = "type.contains.more.than.one.constructor";
         public static final String TYPE_DOES_NOT_CONTAIN_CONSTRUCTOR = "type.does.not.contain.constructor";
         public static final String TYPE_DOES_NOT_CONTAIN_CLONE_METHOD = "type.does.not.contain.clone.method";
+        public static final String LAZY_REQUIRES_INTERFACE = "lazy.requires.interface";
         public static final String INCORRECT_OPERATOR = "incorrect.operator";
         public static final String INVALID_CHARACTER = "invalid.character";
         public static final String INVALID_DECIMAL = "invalid.decimal";
@@ -0,0 +1,283 @@
+package com.github.ducoral.jutils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Parameter;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.github.ducoral.jutils.Constants.Strings.*;
+import static com.github.ducoral.jutils.Core.*;
+import static java.lang.reflect.Proxy.newProxyInstance;
+
+class ContainerImpl implements Container {
+
+    static final String FACTORY_SUFFIX = "_Factory";
+
+    private final Map<Class<?>, Plan> plans;
+
+    private final Map<Class<?>, Once> singletons = new ConcurrentHashMap<>();
+
+    ContainerImpl() {
+        this(new ConcurrentHashMap<>());
+    }
+
+    private ContainerImpl(Map<Class<?>, Plan> plans) {
+        this.plans = plans;
+    }
+
+    public Object create(Class<?> type) {
+        return plan(type).execute(this);
+    }
+
+    public Container scope() {
+        return new ContainerImpl(plans);
+    }
+
+    public void start(Class<?>... types) {
+        start(ForkJoinPool.commonPool(), types);
+    }
+
+    public void start(Executor executor, Class<?>... types) {
+        Map<Plan, CompletableFuture<?>> started = new HashMap<>();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[types.length];
+        for (int index = 0; index < types.length; index++)
+            futures[index] = start(executor, plan(types[index]), started);
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Oops)
+                throw (Oops) cause;
+            else if (cause instanceof Error)
+                throw (Error) cause;
+            throw new Oops(cause.getMessage(), cause);
+        }
+    }
+
+    private CompletableFuture<?> start(Executor executor, Plan plan, Map<Plan, CompletableFuture<?>> started) {
+        CompletableFuture<?> future = started.get(plan);
+        if (future != null)
+            return future;
+        CompletableFuture<?>[] dependencies = new CompletableFuture<?>[plan.dependencies.length];
+        for (int index = 0; index < dependencies.length; index++)
+            dependencies[index] = plan.dependencies[index] instanceof LazyPlan
+                    ? CompletableFuture.completedFuture(null)
+                    : start(executor, plan.dependencies[index], started);
+        CompletableFuture<Void> ready = CompletableFuture.allOf(dependencies);
+        future = plan.singleton
+                ? ready.thenApplyAsync(done -> singleton(plan), executor)
+                : ready;
+        started.put(plan, future);
+        return future;
+    }
+
+    Object singleton(Plan plan) {
+        Once once = singletons.get(plan.type);
+        if (once != null && once.instance != null)
+            return once.instance;
+        once = singletons.computeIfAbsent(plan.type, type -> new Once());
+        synchronized (once) {
+            if (once.instance == null)
+                once.instance = plan.instantiate(this);
+            return once.instance;
+        }
+    }
+
+    Plan plan(Class<?> type) {
+        Plan plan = plans.get(type);
+        return plan == null
+                ? plan(new ArrayDeque<>(), type)
+                : plan;
+    }
+
+    private Plan plan(Deque<String> scope, Class<?> type) {
+        Plan plan = plans.get(type);
+        if (plan != null)
+            return plan;
+        if (scope.contains(type.getName()))
+            throw Oops.of(CYCLIC_REFERENCE, scope);
+        if (type.isInterface()) {
+            Bean bean = type.getAnnotation(Bean.class);
+            if (bean == null)
+                throw Oops.of(INTERFACE_MUST_BE_ANNOTATED_WITH, Bean.class.getName());
+            plan = plan(scope, bean.type());
+            if (type.isAnnotationPresent(Lazy.class))
+                plan = new LazyPlan(type, plan);
+        } else {
+            Factory factory = generated(type);
+            if (factory == null)
+                factory = new ConstructorFactory(constructor(type));
+            Class<?>[] types = factory.dependencies();
+            Plan[] dependencies = new Plan[types.length];
+            scope.push(type.getName());
+            for (int index = 0; index < dependencies.length; index++) {
+                dependencies[index] = plan(scope, types[index]);
+                if (factory.isLazy(index) && !(dependencies[index] instanceof LazyPlan))
+                    dependencies[index] = lazy(types[index], dependencies[index]);
+            }
+            scope.pop();
+            plan = new Plan(type, factory, dependencies, type.isAnnotationPresent(Singleton.class));
+        }
+        Plan previous = plans.putIfAbsent(type, plan);
+        return previous == null ? plan : previous;
+    }
+
+    private static Plan lazy(Class<?> type, Plan target) {
+        if (!type.isInterface())
+            throw Oops.of(LAZY_REQUIRES_INTERFACE, type.getName());
+        return new LazyPlan(type, target);
+    }
+
+    private static Constructor<?> constructor(Class<?> type) {
+        Constructor<?>[] constructors = type.getDeclaredConstructors();
+        if (constructors.length == 0)
+            throw Oops.of(TYPE_DOES_NOT_CONTAIN_CONSTRUCTOR, type.getName());
+        else if (constructors.length > 1)
+            throw Oops.of(TYPE_CONTAINS_MORE_THAN_ONE_CONSTRUCTOR, type.getName(), Arrays.toString(constructors));
+        return constructors[0];
+    }
+
+    private static Factory generated(Class<?> type) {
+        String name = type.getName();
+        int start = name.lastIndexOf('.') + 1;
+        String factory = name.substring(0, start) + name.substring(start).replace('$', '_') + FACTORY_SUFFIX;
+        try {
+            Class<?> factoryType = Class.forName(factory, true, type.getClassLoader());
+            if (!Factory.class.isAssignableFrom(factoryType))
+                return null;
+            Factory instance = (Factory) factoryType.getDeclaredConstructor().newInstance();
+            return type.equals(instance.type()) ? instance : null;
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (Exception e) {
+            throw Oops.of(e);
+        }
+    }
+
+    static class Once {
+
+        volatile Object instance;
+    }
+
+    static class ConstructorFactory implements Factory {
+
+        final Class<?>[] dependencies;
+
+        final boolean[] lazy;
+
+        final MethodHandle constructor;
+
+        ConstructorFactory(Constructor<?> constructor) {
+            Parameter[] parameters = constructor.getParameters();
+            dependencies = new Class<?>[parameters.length];
+            lazy = new boolean[parameters.length];
+            for (int index = 0; index < parameters.length; index++) {
+                dependencies[index] = parameters[index].getType();
+                lazy[index] = parameters[index].isAnnotationPresent(Lazy.class);
+            }
+            try {
+                constructor.setAccessible(true);
+                this.constructor = MethodHandles.lookup()
+                        .unreflectConstructor(constructor)
+                        .asSpreader(Object[].class, parameters.length)
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+            } catch (Exception e) {
+                throw Oops.of(e);
+            }
+        }
+
+        public Class<?>[] dependencies() {
+            return dependencies;
+        }
+
+        public boolean isLazy(int index) {
+            return lazy[index];
+        }
+
+        public Object create(Object[] dependencies) throws Exception {
+            try {
+                return (Object) constructor.invokeExact(dependencies);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new Oops(e.getMessage(), e);
+            }
+        }
+    }
+
+    static class Plan {
+
+        final Class<?> type;
+
+        final Factory factory;
+
+        final Plan[] dependencies;
+
+        final boolean singleton;
+
+        Plan(Class<?> type, Factory factory, Plan[] dependencies, boolean singleton) {
+            this.type = type;
+            this.factory = factory;
+            this.dependencies = dependencies;
+            this.singleton = singleton;
+        }
+
+        Object execute(ContainerImpl container) {
+            return singleton
+                    ? container.singleton(this)
+                    : instantiate(container);
+        }
+
+        Object instantiate(ContainerImpl container) {
+            Object[] args = new Object[dependencies.length];
+            for (int index = 0; index < args.length; index++)
+                args[index] = dependencies[index].execute(container);
+            try {
+                return factory.create(args);
+            } catch (Oops e) {
+                throw e;
+            } catch (Exception e) {
+                throw Oops.of(e);
+            }
+        }
+    }
+
+    static class LazyPlan extends Plan {
+
+        LazyPlan(Class<?> type, Plan target) {
+            super(type, null, new Plan[] { target }, false);
+        }
+
+        @Override
+        Object execute(ContainerImpl container) {
+            Plan target = dependencies[0];
+            Once once = new Once();
+            InvocationHandler handler = (proxy, method, args) -> {
+                if (once.instance == null)
+                    synchronized (once) {
+                        if (once.instance == null)
+                            once.instance = target.execute(container);
+                    }
+                try {
+                    return method.invoke(once.instance, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            };
+            return newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler);
+        }
+    }
+}
@@ -0,0 +1,1371 @@
+package com.github.ducoral.jutils;
+
+import java.io.*;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.github.ducoral.jutils.Constants.Strings.*;
+
+/**
+ *  Módulo principal da biblioteca.
+ *  <br/><br/>
+ *  Essa classe contém Classes, Interfaces e Métodos estáticos correspondentes à utilitários diversos
+ *  e DSL que serve de base para implementação dos demais módulos da biblioteca.
+ */
+public final class Core {
+
+    /**
+     * Anotação para configurar Interface com a referência para a classe que a implementa.
+     * <br/><br/>
+     * Quando uma nova instância de determinada interface for solicitada ao método {@link #create(Class)},
+     * será a classe configurada em {@link Bean#type() type} que será instanciada e retornada.
+     * <br/><br/>
+     * Por exemplo, a interface <code>Config</code> e sua implementação correspondente <code>ConfigImpl</code> poderiam
+     * estar declarados da seguinte forma:<br/><br/>
+     * <pre>
+     *   {@literal @}Bean(type = ConfigImpl.class)
+     *    interface Config {
+     *      String value(String property);
+     *    }
+     *
+     *    class ConfigImpl implements Config {
+     *      Map&lt;String, String&gt; properties = new HashMap<>();
+     *
+     *     {@literal @}Overrite
+     *      String value(String property) {
+     *        return properties.get(property);
+     *      }
+     *    }
+     * </pre>
+     *
+     * Sendo assim, ao solicitar uma instância de <code>Config</code>, chamando {@link #create(Class) create(Config.class)},
+     * seria retornada uma instância de <code>ConfigImpl</code>.
+     */
+    @Target(value = ElementType.TYPE)
+    @Retention(value = RetentionPolicy.RUNTIME)
+    public @interface Bean {
+
+        /**
+         * <i>Class</i> da implementação da interface anotada com {@link Bean}.
+         *
+         * @return instância de <i>Class</i> que implementa a interface anotada.
+         */
+        Class<?> type();
+    }
+
+    /**
+     * Determinada classe anotada com {@link Singleton} terá apenas uma única instância
+     * criada através do método {@link #create(Class)}.
+     * <br/><br/>
+     *
+     * Por exemplo, se determinada classe <code>Config</code>, anotada com {@link Singleton}:
+     * <pre>
+     *     @ Singleton
+     *     class Config {
+     *     }
+     * </pre>
+     *
+     * for instanciada N vezes, como da seguinte forma:
+     *
+     * <pre>
+     *     Config configA = create(Config.class);
+     *     Config configB = create(Config.class);
+     *     Config configC = create(Config.class);
+     * </pre>
+     *
+     * todas as instâncias <code>Config</code> serão referência para o mesmo objeto. Ou seja, as variáveis
+     * <code>configA</code>, <code>configB</code> e <code>configC</code> serão todas a mesma instância de
+     * <code>Config</code>.
+     */
+    @Target(value = ElementType.TYPE)
+    @Retention(value = RetentionPolicy.RUNTIME)
+    public @interface Singleton {
+    }
+
+    /**
+     * Determinada dependência anotada com {@link Lazy} somente será instanciada quando for utilizada pela primeira
+     * vez.
+     * <br/><br/>
+     * A anotação pode ser aplicada no parâmetro da construtora ou na própria interface da dependência. Em ambos
+     * os casos, o tipo da dependência deve ser uma interface, pois é injetado um <i>proxy</i> que cria a instância
+     * real na primeira chamada de qualquer um de seus métodos. Por exemplo:
+     * <pre>
+     *     class Report {
+     *         Report({@literal @}Lazy Database database) {
+     *         }
+     *     }
+     * </pre>
+     */
+    @Target(value = { ElementType.TYPE, ElementType.PARAMETER })
+    @Retention(value = RetentionPolicy.RUNTIME)
+    public @interface Lazy {
+    }
+
+    /**
+     * <i>Enum</i> para configurar alinhamento de item na horizontal.
+     */
+    public enum Align { LEFT, CENTER, RIGHT }
+
+    static PropertyResourceBundle properties = properties(Core.class.getClassLoader(),"jutils");
+
+    static Container container = container();
+
+    static Map<String, PositionalFormat> messages = new ConcurrentHashMap<>();
+
+    static final int PADDING_LENGTH = 64;
+
+    static Map<Character, String> paddings = new ConcurrentHashMap<>();
+
+    static String property(String key, Object... args) {
+        return messages
+                .computeIfAbsent(key, k -> PositionalFormat.parse(properties.getString(k)))
+                .apply(args);
+    }
+
+    /**
+     * Retorna cópia do objeto especificado por parâmetro, chamando o método {@link Object#clone()}
+     * via <i>Reflection</i>. Portanto, espera-se que o parâmetro seja uma instância de
+     * <a href="https://docs.oracle.com/javase/8/docs/api/java/lang/Cloneable.html">Cloneable</a>.
+     *
+     * @param object Objeto que será clonado.
+     * @param <T> tipo do objeto clonado.
+     * @return nova instância de <code>T</code>, correspondente ao clone do objeto especificado por parâmetro.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T clone(T object) {
+        Method clone = method(object.getClass(), "clone");
+        if (clone == null)
+            throw Oops.of(TYPE_DOES_NOT_CONTAIN_CLONE_METHOD, object.getClass());
+        return (T) invoke(object, clone);
+    }
+
+    /**
+     * Cria uma nova instância da classe especificada por parâmetro, injetando as depêndicas da construtora,
+     * conforme configurações via anotações {@link Bean} e {@link Singleton}.
+     * <br/><br/>
+     * As instâncias são criadas pelo {@link Container} padrão da biblioteca. Veja {@link #container()}.
+     *
+     * @param type <i>Class</i> correspondente ao tipo que deverá ser instanciado.
+     * @return nova instância da classe especificada por parâmetro.
+     */
+    public static Object create(Class<?> type) {
+        return container.create(type);
+    }
+
+    /**
+     * Contêiner de injeção de dependências, configurado via anotações {@link Bean} e {@link Singleton}.
+     * <br/><br/>
+     * Na primeira vez em que determinado tipo é solicitado, o contêiner analisa as anotações e a construtora do tipo
+     * e de suas dependências, verifica a existência de referência cíclica e armazena o plano de criação resultante.
+     * As chamadas seguintes de {@link #create(Class)} para o mesmo tipo apenas executam o plano armazenado, sem
+     * nova análise via <i>Reflection</i>.
+     * <br/><br/>
+     * Cada contêiner mantém seu próprio registro de instâncias {@link Singleton}, seguro para uso concorrente:
+     * cada tipo é instanciado uma única vez, apenas as <i>threads</i> que solicitam o mesmo tipo durante a sua
+     * primeira criação aguardam, e as chamadas seguintes obtêm a instância sem bloqueio.
+     */
+    public interface Container {
+
+        /**
+         * Cria uma nova instância da classe especificada por parâmetro, injetando as depêndicas da construtora,
+         * conforme configurações via anotações {@link Bean} e {@link Singleton}.
+         *
+         * @param type <i>Class</i> correspondente ao tipo que deverá ser instanciado.
+         * @return nova instância da classe especificada por parâmetro.
+         */
+        Object create(Class<?> type);
+
+        /**
+         * Retorna novo {@link Container} que compartilha os planos de criação já analisados por este contêiner,
+         * porém com registro de instâncias {@link Singleton} próprio. Útil para isolar instâncias por teste,
+         * por <i>tenant</i>, etc.
+         *
+         * @return novo {@link Container} com registro de instâncias {@link Singleton} próprio.
+         */
+        Container scope();
+
+        /**
+         * Cria antecipadamente todas as instâncias {@link Singleton} das quais os tipos especificados por parâmetro
+         * dependem, incluindo os próprios tipos, caso também sejam {@link Singleton}.
+         * <br/><br/>
+         * As instâncias de ramos independentes do grafo de dependências são criadas concorrentemente no
+         * <a href="https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/ForkJoinPool.html#commonPool--">
+         * ForkJoinPool.commonPool()</a>, sendo cada instância criada somente após as suas dependências. Dependências
+         * anotadas com {@link Lazy} não são criadas.
+         *
+         * @param types tipos cujas dependências {@link Singleton} serão criadas.
+         */
+        void start(Class<?>... types);
+
+        /**
+         * Mesmo que {@link #start(Class[])}, porém criando as instâncias através do <code>executor</code>
+         * especificado por parâmetro. Útil quando as construtoras realizam operações de I/O.
+         *
+         * @param executor instância de {@link Executor} na qual as instâncias serão criadas.
+         * @param types tipos cujas dependências {@link Singleton} serão criadas.
+         */
+        void start(Executor executor, Class<?>... types);
+    }
+
+    /**
+     * Fábrica de instâncias de determinado tipo, utilizada pelo {@link Container}.
+     * <br/><br/>
+     * Ao analisar uma classe <code>Type</code>, o {@link Container} procura pela classe <code>Type_Factory</code>
+     * no mesmo pacote (para classes aninhadas, <code>Outer_Type_Factory</code>), tal como gerada pelo processador de
+     * anotações do módulo <code>jutils-processor</code> para classes anotadas com {@link Singleton} e implementações
+     * configuradas em {@link Bean}. Quando presente, e quando {@link #type()} corresponde à classe analisada, a
+     * fábrica é utilizada no lugar da análise da construtora e da criação de instâncias via <i>Reflection</i>.
+     */
+    public interface Factory {
+
+        /**
+         * Tipo das instâncias criadas pela fábrica. Como o nome da fábrica não distingue a classe aninhada
+         * <code>A.B</code> da classe <code>A_B</code>, o {@link Container} somente utiliza a fábrica encontrada
+         * pelo nome quando este tipo é a própria classe analisada.
+         *
+         * @return tipo das instâncias criadas, ou <code>null</code> se não informado.
+         */
+        default Class<?> type() {
+            return null;
+        }
+
+        /**
+         * Tipos das dependências, na ordem dos parâmetros da construtora.
+         *
+         * @return <i>array</i> de <i>Class</i> correspondente aos tipos das dependências.
+         */
+        Class<?>[] dependencies();
+
+        /**
+         * Indica se a dependência na posição <code>index</code> é {@link Lazy}.
+         *
+         * @param index posição da dependência.
+         * @return <code>true</code> se a dependência deve ser injetada via <i>proxy</i>.
+         */
+        default boolean isLazy(int index) {
+            return false;
+        }
+
+        /**
+         * Cria nova instância do tipo, com as dependências especificadas por parâmetro.
+         *
+         * @param dependencies instâncias das dependências, na ordem de {@link #dependencies()}.
+         * @return nova instância do tipo.
+         * @throws Exception exceção lançada pela construtora.
+         */
+        Object create(Object[] dependencies) throws Exception;
+    }
+
+    /**
+     * Retorna nova instância de {@link Container}.
+     *
+     * @return nova instância de {@link Container}.
+     */
+    public static Container container() {
+        return new ContainerImpl();
+    }
+
+    /**
+     * Cria um objeto com o método <i>toString()</i> implementado de tal forma que a <i>string</i> especificada
+     * por parâmetro seja retornada a partir da segunda vez em que o método é chamado. Na primeira vez em que o
+     * método <i>toString()</i> é chamado, é retornada uma <i>string</i> vazia.
+     *
+     * @param value String que será retornada a partir da segunda vez em que o método <i>toString()</i> do objeto
+     *              retornado for chamado.
+     * @return objeto contendo implementação de <i>toString()</i> conforme regra descrita.
+     */
+    public static Object secondTimeReturns(String value) {
+        return new Object() {
+            int time = 1;
+            public String toString() {
+                return time++ == 1 ? "" : value;
+            }
+        };
+    }
+
+    /**
+     * Definição de interface para concatenadores.
+     */
+    public interface Appendable {
+        Appendable append(Object... values);
+    }
+
+    /**
+     * Implementação de {@link Appendable} que utilizada determinado separador configurado por parâmetro
+     * entre os itens concatenados.
+     *
+     * @param separator <i>String</i> correspondente ao separador dos itens concatenados.
+     * @return instância de {@link Appendable} configurada com o separador especificado por parâmetro.
+     */
+    public static Appendable appendable(String separator) {
+        return new Appendable() {
+            final StringBuilder builder = new StringBuilder();
+            final Object delimiter = secondTimeReturns(separator);
+
+            public Appendable append(Object... values) {
+                for (Object value : values)
+                    builder.append(delimiter).append(value);
+                return this;
+            }
+
+            @Override
+            public String toString() {
+                return builder.toString();
+            }
+        };
+    }
+
+    /**
+     * Retorna nova instância de {@link String} com tamanho <code>length</code>, preenchido
+     * com o caratere <code>fill</code>, especificados por parâmetro.
+     *
+     * @param length int correspondente ao comprimento da {@link String} que será retornada.
+     * @param fill char de preenchimento da {@link String}
+     * @return nova {@link String} correspondente aos parâmetros especificados.
+     */
+    public static String str(int length, char fill) {
+        String padding = padding(fill);
+        if (length <= padding.length())
+            return padding.substring(0, length);
+        char[] chars = new char[length];
+        Arrays.fill(chars, fill);
+        return new String(chars);
+    }
+
+    private static String padding(char fill) {
+        return paddings.computeIfAbsent(fill, ch -> {
+            char[] chars = new char[PADDING_LENGTH];
+            Arrays.fill(chars, ch);
+            return new String(chars);
+        });
+    }
+
+    /**
+     * Adiciona em <code>builder</code> <code>length</code> vezes o caractere <code>fill</code>, especificados
+     * por parâmetro, sem alocar {@link String} intermediária.
+     *
+     * @param builder {@link StringBuilder} em que os caracteres serão adicionados.
+     * @param length int correspondente à quantidade de caracteres que serão adicionados.
+     * @param fill char de preenchimento.
+     * @return o próprio <code>builder</code> especificado por parâmetro.
+     */
+    public static StringBuilder str(StringBuilder builder, int length, char fill) {
+        String padding = padding(fill);
+        for (int remaining = length; remaining > 0; remaining -= padding.length())
+            builder.append(padding, 0, Math.min(remaining, padding.length()));
+        return builder;
+    }
+
+    /**
+     * Retorna instância de {@link String} correspondente ao resultado do método
+     * <a href="https://docs.oracle.com/javase/8/docs/api/java/lang/Object.html#toString">Object.toString()</a>,
+     * invocado no objeto <code>value</code>, especifiado por parâmetro.
+     * @param value objeto que será convertido para {@link String}
+     * @return {@link String} correspondente ao objeto especificado por parâmetro. Se o valor de <code>value</code>
+     * for <code>null</code>, então será retornada uma {@link String} vazia (<code>""</code>).
+     */
+    public static String str(Object value) {
+        return value == null ? "" : value.toString();
+    }
+
+    /**
+     * Retorna {@link String} de comprimento <code>width</code>, com <code>value</code> alinhado conforme
+     * <code>align</code>, com a diferença de tamanho (<code>width</code> - <code>value.length()</code>) preenchida
+     * com <code>withChar</code>.
+     * @param value {@link String} que será alinhada na nova {@link String} retornada, conforme parâmetros.
+     * @param width <code>int</code> correspondente ao comprimento da nova {@link String} retornada.
+     * @param align alinhamento horizontal de <code>value</code> referente à nova {@link String} retornada.
+     * @param withChar <code>char</code> utilizado para preencher a diferença de comprimento na nova {@link String}.
+     * @return nova {@link String} correspondente ao parâmetros especificados.
+     */
+    public static String fill(String value, int width, Align align, char withChar) {
+        if (width - value.length() < 1)
+            return value;
+        return fill(new StringBuilder(width), value, width, align, withChar).toString();
+    }
+
+    /**
+     * Adiciona em <code>builder</code> o <code>value</code> alinhado conforme <code>align</code> em uma coluna de
+     * comprimento <code>width</code>, com a diferença de tamanho preenchida com <code>withChar</code>.
+     * <br/><br/>
+     * Diferente de {@link #fill(String, int, Align, char)}, nenhuma {@link String} intermediária é criada.
+     * @param builder {@link StringBuilder} em que <code>value</code> alinhado será adicionado.
+     * @param value {@link String} que será alinhada na coluna.
+     * @param width <code>int</code> correspondente ao comprimento da coluna.
+     * @param align alinhamento horizontal de <code>value</code> na coluna.
+     * @param withChar <code>char</code> utilizado para preencher a diferença de comprimento.
+     * @return o próprio <code>builder</code> especificado por parâmetro.
+     */
+    public static StringBuilder fill(StringBuilder builder, String value, int width, Align align, char withChar) {
+        int diff = width - value.length();
+        if (diff < 1)
+            return builder.append(value);
+        switch (align) {
+            case LEFT:
+                return str(builder.append(value), diff, withChar);
+            case RIGHT:
+                return str(builder, diff, withChar).append(value);
+            default:
+                int half = diff / 2;
+                return str(str(builder, half, withChar).append(value), diff - half, withChar);
+        }
+    }
+
+    /**
+     * Adiciona em <code>builder</code> o <code>value</code> alinhado à esquerda em uma coluna de comprimento
+     * <code>width</code>, com a diferença de comprimento preenchida com o caracter de espaço (<code>' '</code>).
+     * @param builder {@link StringBuilder} em que <code>value</code> alinhado será adicionado.
+     * @param value {@link String} que será alinhada à esquerda na coluna.
+     * @param width <code>int</code> correspondente ao comprimento da coluna.
+     * @return o próprio <code>builder</code> especificado por parâmetro.
+     */
+    public static StringBuilder fill(StringBuilder builder, String value, int width) {
+        return fill(builder, value, width, Align.LEFT, ' ');
+    }
+
+    /**
+     * Retorna nova {@link String} de comprimento <code>width</code>, contendo a {@link String}
+     * <code>value</code> alinhada à esquerda, contendo a diferença de comprimento preenchida com o caracter
+     * de espaço (<code>' '</code>).
+     * @param value {@link String} que será alinhada à esquerda na nova {@link String} retornada.
+     * @param width <code>int</code> correspondente ao comprimento da nova {@link String} retornada.
+     * @return nova {@link String} correspondente ao parâmetros especificados.
+     */
+    public static String fill(String value, int width) {
+        return fill(value, width, Align.LEFT, ' ');
+    }
+
+    /**
+     * Retorna {@link String} contendo a tabela de texto de largura fixa correspondente às <code>columns</code> e
+     * <code>rows</code> especificadas por parâmetro.
+     * <br/><br/>
+     * A largura de cada coluna corresponde ao maior valor da coluna, incluindo o cabeçalho. Os valores são
+     * alinhados conforme <code>aligns</code>, na mesma ordem das colunas. Colunas sem alinhamento correspondente
+     * são alinhadas à esquerda. Por exemplo:
+     * <pre>
+     *     id | name
+     *     ---+------
+     *     1  | first
+     *     2  | second
+     * </pre>
+     * @param columns {@link List} contendo os nomes das colunas.
+     * @param rows {@link List} contendo as linhas da tabela, cada qual com os valores na ordem das colunas.
+     * @param aligns alinhamentos horizontais das colunas.
+     * @return {@link String} contendo a tabela formatada.
+     */
+    public static String table(List<String> columns, List<? extends List<?>> rows, Align... aligns) {
+        String[][] cells = new String[rows.size() + 1][columns.size()];
+        int[] widths = new int[columns.size()];
+        for (int column = 0; column < widths.length; column++) {
+            cells[0][column] = str(columns.get(column));
+            widths[column] = cells[0][column].length();
+        }
+        for (int row = 1; row < cells.length; row++) {
+            List<?> values = rows.get(row - 1);
+            for (int column = 0; column < widths.length; column++) {
+                cells[row][column] = column < values.size() ? str(values.get(column)) : "";
+                widths[column] = Math.max(widths[column], cells[row][column].length());
+            }
+        }
+        int lineLength = 1;
+        for (int width : widths)
+            lineLength += width + 3;
+        StringBuilder builder = new StringBuilder(lineLength * (cells.length + 1));
+        appendRow(builder, cells[0], widths, new Align[0]).append('\n');
+        for (int column = 0; column < widths.length; column++)
+            str(builder.append(column == 0 ? "" : "-+-"), widths[column], '-');
+        for (int row = 1; row < cells.length; row++)
+            appendRow(builder.append('\n'), cells[row], widths, aligns);
+        return builder.toString();
+    }
+
+    /**
+     * Retorna {@link String} contendo a tabela de texto de largura fixa correspondente a todas as linhas
+     * restantes de <code>rs</code>, conforme {@link #table(List, List, Align...)}.
+     * @param rs instância de {@link ResultSet} da qual as linhas serão lidas.
+     * @param aligns alinhamentos horizontais das colunas.
+     * @return {@link String} contendo a tabela formatada.
+     */
+    public static String table(ResultSet rs, Align... aligns) {
+        try {
+            ResultSetMetaData metaData = rs.getMetaData();
+            List<String> columns = new ArrayList<>();
+            for (int index = 1; index <= metaData.getColumnCount(); index++)
+                columns.add(metaData.getColumnName(index));
+            List<List<Object>> rows = new ArrayList<>();
+            while (rs.next()) {
+                List<Object> row = new ArrayList<>(columns.size());
+                for (int index = 1; index <= columns.size(); index++)
+                    row.add(rs.getObject(index));
+                rows.add(row);
+            }
+            return table(columns, rows, aligns);
+        } catch (Exception e) {
+            throw Oops.of(e);
+        }
+    }
+
+    private static StringBuilder appendRow(StringBuilder builder, String[] cells, int[] widths, Align[] aligns) {
+        for (int column = 0; column < widths.length; column++) {
+            Align align = column < aligns.length ? aligns[column] : Align.LEFT;
+            if (column > 0)
+                builder.append(" | ");
+            if (column == widths.length - 1 && align == Align.LEFT)
+                builder.append(cells[column]);
+            else
+                fill(builder, cells[column], widths[column], align, ' ');
+        }
+        return builder;
+    }
+
+    /**
+     * Substitui todas as ocorrências de <code>target</code> em <code>str</code> por <code>replacement</code>.
+     * @param str <code>StringBuilder</code> que será afetado pela substituição de <i>strings</i>.
+     * @param target {@link String} que será substituída.
+     * @param replacement {@link String} que será utilizada na substituição.
+     */
+    public static void replace(StringBuilder str, String target, String replacement) {
+        int index = str.indexOf(target);
+        while (index > -1) {
+            str.replace(index, index + target.length(), replacement);
+            index = str.indexOf(target);
+        }
+    }
+
+    /**
+     * Formata e retorna a {@link String} <code>template</code> de acordo com as instâncias de
+     * {@link Pair}, especificados por parâmetro.
+     * <br/><br/>
+     * Os parâmetros são identificados conforme expressão regular configurada em {@link Constants.RegEx#PARAM}
+     * @param template {@link String} que terá o parâmetros substituídos pelos respectivos valores.
+     * @param parameters instâncias de {@link Pair} correspondente aos parâmetros e seus respectivos valores.
+     * @return {@link String} resultante da formatação da <code>template</code>, conforme <code>parameters</code>
+     *         especificados.
+     */
+    public static String format(String template, Pair... parameters) {
+        return format(template, map(parameters));
+    }
+
+    /**
+     * Formata e retorna a {@link String} <code>template</code> de acordo com os parâmetros configurados em
+     * {@link Map} <code>scope</code>, especificado por parâmetro.
+     * <br/><br/>
+     * Os parâmetros são identificados conforme expressão regular configurada em {@link Constants.RegEx#PARAM}
+     * @param template {@link String} que terá o parâmetros substituídos pelos respectivos valores.
+     * @param scope instâncias de {@link Map} contendo os parâmetros e seus respectivos valores.
+     * @return {@link String} resultante da formatação da <code>template</code>, conforme <code>scope</code>
+     *         especificado por parâmetro.
+     */
+    public static String format(String template, Map<String, Object> scope) {
+        StringBuilder result = new StringBuilder(template);
+        parameters(template).forEach(param -> replace(result, param, str(scope.get(param))));
+        return result.toString();
+    }
+
+    /**
+     * Formata e retorna a {@link String} <code>template</code> de acordo com os parâmetros especifidos em
+     * <code>args</code>.
+     * <br/><br/>
+     * Esse método espera que os parâmetros em <code>template</code> tenham a seguinte sintaxe %&lt;número&gt;, de tal
+     * forma que &lt;número&gt; representa a posição do parâmetro especificado em <code>args</code>.
+     * <br/><br/>
+     * O <code>template</code> é percorrido uma única vez, portanto <code>%10</code> é identificado como o parâmetro
+     * de posição 10, e não como o parâmetro de posição 1 seguido de <code>0</code>. Parâmetros sem argumento
+     * correspondente em <code>args</code> são mantidos inalterados.
+     * <br/>
+     * @param template {@link String} que será formatada.
+     * @param args <i>array</i> de {@link Object} correspondentes aos parâmetros na formação de <code>template</code>.
+     * @return {@link String} <code>template</code> formatada conforme parâmetros especificados em <code>args</code>.
+     */
+    public static String format(String template, Object... args) {
+        return PositionalFormat.format(template, args);
+    }
+
+    /**
+     * Retorna {@link String} contendo <code>date</code> formatada conforme <code>format</code>.
+     * @param date instância de {@link Date} que será formatada.
+     * @param format {@link String} contendo o formato que será aplicado na formatação da data.
+     * @return {@link String} resultante da formatação da data especificada por parâmetro.
+     */
+    public static String format(Date date, String format) {
+        return DateFormats.format(date, format);
+    }
+
+    /**
+     * Retorna {@link String} contendo <code>value</code> formatado conforme <code>format</code>, no padrão de
+     * {@link DateTimeFormatter}.
+     * @param value instância de {@link TemporalAccessor}, como {@link LocalDate} ou {@link LocalDateTime}.
+     * @param format {@link String} contendo o formato que será aplicado na formatação.
+     * @return {@link String} resultante da formatação do valor especificado por parâmetro.
+     */
+    public static String format(TemporalAccessor value, String format) {
+        return DateFormats.format(value, format);
+    }
+
+    /**
+     * Retorna o objeto <code>value</code>, especificado por parâmetro, convertido para {@link String},
+     * com os caracteres convertidos para minúsculo.
+     * @param value {@link Object} do qual será convertido para {@link String} com caracteres em minúsculo.
+     * @return {@link String} correspondente ao <code>value</code>, especificado por parâmetro, convertido para
+     *         {@link String}, com os caracteres convertidos para minúsculo.
+     */
+    public static String lower(Object value) {
+        return String.valueOf(value).toLowerCase();
+    }
+
+    /**
+     * Retorna o objeto <code>value</code>, especificado por parâmetro, convertido para {@link String},
+     * com os caracteres convertidos para maiúsculo.
+     * @param value {@link Object} do qual será convertido para {@link String} com caracteres em maiúsculo.
+     * @return {@link String} correspondente ao <code>value</code>, especificado por parâmetro, convertido para
+     *         {@link String}, com os caracteres convertidos para maiúsculo.
+     */
+    public static String upper(Object value) {
+        return String.valueOf(value).toUpperCase();
+    }
+
+    /**
+     * Verifica se a {@link String} <code>value</code> contém pelo menos uma das <code>Strings</code>
+     * especifica em <code>values</code>.
+     * @param value {@link String} em que será verificada a existência de pelo menos um item do <i>array</i> <code>values</code>.
+     * @param values <i>array</i> contendo as <code>Strings</code> que serão verificadas.
+     * @return <code>true</code> se <code>value</code> contiver pelo menos uma das <code>Strings</code> especificadas em <code>values</code>.
+     */
+    public static boolean isOneOf(String value, String... values) {
+        for (String item : values)
+            if (Objects.equals(value, item))
+                return true;
+        return false;
+    }
+
+    /**
+     * Verifica se <code>value</code> é valor <code>null</code> ou instância de classes correspondentes
+     * ao tipos primitivos do Java, tais como {@link Number}, {@link CharSequence} e {@link Boolean}.
+     * @param value {@link Object} que terá o tipo verificado.
+     * @return <code>true</code> <code>value</code> for instância de classe de tipo primitivo do Java.
+     */
+    public static boolean isNullOrPrimitiveType(Object value) {
+        return Objects.isNull(value)
+                || value instanceof Number
+                || value instanceof CharSequence
+                || value instanceof Boolean;
+    }
+
+    /**
+     * Converte objeto Java em de objeto JSON.
+     * <br/><br/>
+     * Instâncias de {@link Date} e {@link Time} são formatadas conforme as propriedades
+     * <code>json.datetime.format</code> e <code>json.time.format</code>, e as de {@link LocalDate},
+     * {@link LocalDateTime}, {@link java.time.LocalTime}, {@link java.time.OffsetDateTime},
+     * {@link java.time.ZonedDateTime}, {@link java.time.OffsetTime} e {@link java.time.Instant} no formato ISO-8601.
+     * @param value objeto Java que será convertiddo para objeto JSON.
+     * @return {@link String} no formato JSON contendo o objeto especificado em <code>value</code>.
+     */
+    public static String json(Object value) {
+        if (value instanceof List)
+            return json((List<?>) value);
+        else if (value instanceof Map)
+            return json((Map<?, ?>) value);
+        else if (value instanceof Time)
+            return json(format((Time) value, DateFormats.TIME_PATTERN));
+        else if (value instanceof Date)
+            return json(format((Date) value, DateFormats.DATETIME_PATTERN));
+        else if (DateFormats.isIso(value))
+            return json(DateFormats.iso((TemporalAccessor) value));
+        else if (isNullOrPrimitiveType(value)) {
+            String str = String.valueOf(value);
+            return value instanceof CharSequence ? '"' + str + '"' : str;
+        } else try {
+            Class<?> type = value.getClass();
+            StringBuilder builder = new StringBuilder("{");
+            Object comma = secondTimeReturns(",");
+            for (Field field : type.getDeclaredFields())
+                builder.append(comma).append('"').append(field.getName()).append("\":").append(json(field.get(value)));
+            return builder.append('}').toString();
+        } catch (Exception e) {
+            throw Oops.of(e);
+        }
+    }
+
+    /**
+     * Converte um {@link List} em <i>array</i> JSON.
+     * @param list {@link List} que será convertido em <i>array</i> JSON
+     * @return {@link String} contendo o <i>array</i> JSON correspondente ao {@link List} especificado por parâmetro.
+     */
+    private static String json(List<?> list) {
+        StringBuilder array = new StringBuilder("[");
+        Object comma = secondTimeReturns(",");
+        list.forEach(value -> array.append(comma).append(json(value)));
+        return array.append("]").toString();
+    }
+
+    /**
+     * Converte um {@link Map} em objeto JSON.
+     * @param map {@link Map} que será convertido para objeto JSON.
+     * @return String contendo o objeto JSON correspondente ao {@link Map} especificado por parâmetro.
+     */
+    private static String json(Map<?, ?> map) {
+        StringBuilder object = new StringBuilder("{");
+        Object comma = secondTimeReturns(",");
+        map.forEach((key, value) -> object
+                .append(comma)
+                .append(json(key))
+                .append(':')
+                .append(json(value)));
+        return object.append("}").toString();
+    }
+
+    static final int JSON_CHUNK_SIZE = 1 << 30;
+
+    /**
+     * Converte {@link String} no formato JSON para instância de {@link Object}.
+     * @param document {@link String} no formado JSON.
+     * @return instância de {@link Object} correspondente o documento JSON especificado por parâmetro.
+     */
+    public static Object parseJson(String document) {
+        return JsonParser.local().parse(document, 0, document.length());
+    }
+
+    /**
+     * Converte {@link String} no formato JSON para instância de {@link Object}, conforme {@link #parseJson(String)},
+     * limitando a quantidade de objetos e <i>arrays</i> aninhados. O limite padrão é 512.
+     * @param document {@link String} no formado JSON.
+     * @param maxDepth profundidade máxima de aninhamento.
+     * @return instância de {@link Object} correspondente o documento JSON especificado por parâmetro.
+     * @throws Oops se o documento exceder a profundidade máxima.
+     */
+    public static Object parseJson(String document, int maxDepth) {
+        return new JsonParser(new Scanner(document), maxDepth).parse();
+    }
+
+    /**
+     * Converte o conteúdo UTF-8 de <code>buffer</code>, da posição ao limite, para instância de {@link Object},
+     * conforme {@link #parseJson(String)}, sem decodificar todo o conteúdo para {@link String}: apenas os lexemas
+     * das chaves e valores são decodificados.
+     * @param buffer {@link ByteBuffer} com o documento JSON em UTF-8.
+     * @return instância de {@link Object} correspondente ao documento JSON.
+     */
+    public static Object parseJson(ByteBuffer buffer) {
+        return new JsonParser(new ByteScanner(buffer)).parse();
+    }
+
+    /**
+     * Converte o arquivo JSON em UTF-8 para instância de {@link Object}, conforme {@link #parseJson(String)}. O
+     * arquivo é mapeado em memória, em janelas de 1 GB, e lido diretamente das páginas do sistema operacional, de
+     * forma que o <i>heap</i> utilizado é proporcional ao resultado, e não ao tamanho do arquivo.
+     * @param file caminho do arquivo JSON.
+     * @return instância de {@link Object} correspondente ao documento JSON.
+     */
+    public static Object parseJson(Path file) {
+        return new JsonParser(new ByteScanner(NIO.map(file, JSON_CHUNK_SIZE))).parse();
+    }
+
+    /**
+     * Converte {@link String} no formato JSON para instância de {@link Object}, conforme {@link #parseJson(String)},
+     * lendo em paralelo os elementos quando o documento é um <i>array</i>.
+     * <br/><br/>
+     * Uma varredura estrutural identifica os limites de cada elemento do <i>array</i>, que são então lidos por
+     * parsers independentes no {@link java.util.concurrent.ForkJoinPool} comum. O resultado é um {@link List} com
+     * os elementos na ordem do documento. Documentos que não são <i>array</i> são lidos sequencialmente.
+     * @param document {@link String} no formado JSON.
+     * @return instância de {@link Object} correspondente o documento JSON especificado por parâmetro.
+     */
+    public static Object parseJsonParallel(String document) {
+        long[] bounds = JsonSplitter.split(index -> index < document.length() ? document.charAt((int) index) : -1);
+        return bounds == null
+                ? parseJson(document)
+                : JsonSplitter.parse(bounds, (start, end) ->
+                        JsonParser.local().parse(document, (int) start, (int) end));
+    }
+
+    /**
+     * Converte o arquivo JSON em UTF-8 para instância de {@link Object}, conforme {@link #parseJson(Path)}, lendo
+     * em paralelo os elementos quando o documento é um <i>array</i>, conforme {@link #parseJsonParallel(String)}.
+     * @param file caminho do arquivo JSON.
+     * @return instância de {@link Object} correspondente ao documento JSON.
+     */
+    public static Object parseJsonParallel(Path file) {
+        Chunks chunks = new Chunks(NIO.map(file, JSON_CHUNK_SIZE));
+        long[] bounds = JsonSplitter.split(chunks::at);
+        return bounds == null
+                ? new JsonParser(new ByteScanner(chunks)).parse()
+                : JsonSplitter.parse(bounds, (start, end) ->
+                        new JsonParser(new ByteScanner(chunks.copy(), start, end)).parse());
+    }
+
+    /**
+     * Leitura incremental de uma sequência de valores JSON em UTF-8, como JSON delimitado por linhas (NDJSON) ou
+     * valores simplesmente concatenados, recebida em partes de tamanho arbitrário, por exemplo de um canal NIO não
+     * bloqueante. O estado da leitura é mantido entre as partes, e cada valor de nível superior é entregue ao
+     * consumidor assim que completado, com o mesmo resultado de {@link #parseJson(String)}.
+     */
+    public interface JsonFeed {
+
+        /**
+         * Processa os bytes de <code>chunk</code>, da posição ao limite, entregando ao consumidor os valores
+         * completados. Os bytes de um valor incompleto são guardados até as próximas chamadas.
+         *
+         * @param chunk próxima parte da sequência.
+         * @throws Oops se um valor completado for inválido. Nesse caso, o valor é descartado e <code>chunk</code>
+         *              fica posicionado após ele, podendo a leitura prosseguir com nova chamada.
+         */
+        void feed(ByteBuffer chunk);
+
+        /**
+         * Indica o fim da sequência, entregando o último valor quando este é um literal, como <code>42</code>,
+         * que somente é completado pelo caractere seguinte.
+         *
+         * @throws Oops se a sequência terminar com um valor incompleto.
+         */
+        void close();
+    }
+
+    /**
+     * Retorna novo {@link JsonFeed}, que entrega os valores lidos ao consumidor especificado por parâmetro.
+     *
+     * @param consumer consumidor dos valores de nível superior, na ordem da sequência.
+     * @return novo {@link JsonFeed}.
+     */
+    public static JsonFeed jsonFeed(Consumer<Object> consumer) {
+        return new JsonFeedImpl(consumer);
+    }
+
+    /**
+     * Aplica o padrão <code>pattern</code> no <code>input</code>, especificados por parâmetro,
+     * e retorna lista de {@link String} contendo as ocorrências correspondentes.
+     *
+     * @param pattern instância de {@link Pattern} correspondente ao padrão a ser identificado.
+     * @param input {@link String} em que serão identificadas as ocorrênicas do padrão especificado.
+     * @return lista de <code>String/code> contendo os padrões identificados na {@link String} especificada.
+     */
+    public static List<String> matches(Pattern pattern, String input) {
+        return matches(pattern, input, 0);
+    }
+
+    /**
+     * Aplica o padrão <code>pattern</code> no <code>input</code>, ambos especificados por parâmetro,
+     * e retorna lista de {@link String} contendo as ocorrências correspondente ao grupo especificado em
+     * <code>group</code>.
+     *
+     * @param pattern instância de {@link Pattern} correspondente ao padrão a ser identificado.
+     * @param input {@link String} em que serão identificadas as ocorrênicas do padrão especificado.
+     * @param group int correspondente ao grupo da expressão regular que será retornado.
+     * @return lista de {@link String} contendo os padrões identificados na {@link String} <code>input</code>>,
+     *         corresponentes ao grupo <code>group</code>, especificados por parâmetro.
+     */
+    public static List<String> matches(Pattern pattern, String input, int group) {
+        List<String> matches = new ArrayList<>();
+        Matcher matcher = pattern.matcher(input);
+        while (matcher.find())
+            matches.add(matcher.group(group));
+        return matches;
+    }
+
+    /**
+     * Identifica e retorna os parâmetros existentes no <code>template</code> especificado por parâmetro.
+     * <br/></br>
+     * Os parãmetros são identificados conforme expressão regular configurada em {@link Constants.RegEx#PARAM}
+     *
+     * @param template {@link String} da qual os parâmetros serão identificados e retornados.
+     *
+     * @return conjunto de <code>Strings</code> contendo os parâmetros identificados no <code>template</code> especificado.
+     */
+    public static Set<String> parameters(String template) {
+        return new HashSet<>(matches(Constants.Patterns.PARAM, template));
+    }
+
+    /**
+     * Retorna <i>array</i> de <code>byte</code> correspondente ao conteúdo de <code>input</code> especificado por
+     * parâmetro. Os bytes são lidos diretamente no <i>array</i> retornado, inicialmente dimensionado conforme
+     * {@link InputStream#available()}, de forma que, quando este informa o tamanho total, não há cópia.
+     * @param input instância de {@link InputStream} que será convertida para <code>array</code> de <code>bytes</code>
+     * @return <i>array</i> de <code>bytes</code> correspondente ao conteúdo de <code>input</code> especificado por
+     *         parâmetro.
+     * @see NIO#bytes(InputStream, int)
+     * @see NIO#read(java.nio.file.Path)
+     */
+    public static byte[] bytes(InputStream input) {
+        try {
+            byte[] bytes = new byte[Math.max(input.available(), 8192)];
+            int length = 0;
+            int read;
+            while ((read = input.read(bytes, length, bytes.length - length)) > -1) {
+                length += read;
+                if (length == bytes.length) {
+                    int next = input.read();
+                    if (next < 0)
+                        break;
+                    bytes = Arrays.copyOf(bytes, grow(bytes.length, input));
+                    bytes[length++] = (byte) next;
+                }
+            }
+            return length == bytes.length ? bytes : Arrays.copyOf(bytes, length);
+        } catch (Oops e) {
+            throw e;
+        } catch (Exception e) {
+            throw new Oops(e.getMessage(), e);
+        }
+    }
+
+    static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    /*
+     * Nova capacidade do array de bytes cheio com length bytes, lidos de source: o dobro, limitado a
+     * MAX_ARRAY_LENGTH. Com o array já nesse limite, o conteúdo (ao menos length + 1 bytes) não cabe em um array.
+     */
+    static int grow(int length, Object source) {
+        if (length >= MAX_ARRAY_LENGTH)
+            throw Oops.of(FILE_TOO_LARGE, source, (long) length + 1);
+        return length > MAX_ARRAY_LENGTH / 2 ? MAX_ARRAY_LENGTH : length * 2;
+    }
+
+    /**
+     * Retorna instância de {@link InputStream} contendo os <code>bytes</code> especificados por parâmetro.
+     * @param bytes <i>array</i> de <code>byte</code> quer será encapsulado na instância de {@link InputStream}.
+     * @return instância de {@link InputStream} contendo os <code>bytes</code> especificados por parâmetro.
+     */
+    public static InputStream stream(byte[] bytes) {
+        return new ByteArrayInputStream(bytes);
+    }
+
+    /**
+     * Retorna nova instância de {@link PropertyResourceBundle} contendo o arquivo <code>*.properties</code> com
+     * o <code>nome</code> especificado.
+     * @param loader instância de {@link ClassLoader} a partir do qual o arquivo <code>*.properties</code> será carregado.
+     * @param name {@link String} contendo o nome do arquivo <code>*.properties</code> será carregado.
+     * @return instância de {@link PropertyResourceBundle}.
+     */
+    public static PropertyResourceBundle properties(ClassLoader loader, String name) {
+        Locale locale = Locale.getDefault();
+        URL resource = loader.getResource(format("%0_%1%2.properties", name, locale.getLanguage(), locale.getCountry()));
+        if (resource == null)
+            resource = loader.getResource(format("%0.properties", name));
+        if (resource == null)
+            throw new Oops("Could not load property file " + name);
+        try {
+            return new PropertyResourceBundle(new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw Oops.of(e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Command {
+
+        void execute();
+
+        default Command andThen(Command after) {
+            Objects.requireNonNull(after);
+            return () -> {
+                this.execute();
+                after.execute();
+            };
+        }
+    }
+
+    public static void times(int times, Command command) {
+        for (int i = 0; i < times; i++)
+            command.execute();
+    }
+
+    public static List<Object> values(List<String> keys, Map<String, Object> map) {
+        List<Object> list = new ArrayList<>();
+        for (String key : keys)
+            list.add(map.get(key));
+        return list;
+    }
+
+    public interface Pair {
+        String key();
+        Object value();
+    }
+
+    public static Pair pair(String key, Object value) {
+        return new Pair() {
+            public String key() {
+                return key;
+            }
+            public Object value() {
+                return value;
+            }
+        };
+    }
+
+    public static Map<String, Object> map(Pair... pairs) {
+        Map<String, Object> params = new HashMap<>();
+        for (Pair pair : pairs)
+            params.put(pair.key(), pair.value());
+        return params;
+    }
+
+    public interface MapBuilder {
+        MapBuilder pair(String key, Object value);
+        MapBuilder merge(Map<String, Object> map);
+
+        /**
+         * Renomeia as chaves do {@link Map} conforme <code>renameKeyFunction</code>.
+         * <br/><br/>
+         * As chaves são renomeadas sob demanda, através de uma visão do {@link Map} atual, e a renomeação de cada
+         * chave distinta é memorizada por este {@link MapBuilder}. Para renomear as colunas de várias linhas
+         * aplicando a função uma única vez por coluna, utilize a mesma instância criada via
+         * {@link Core#renaming(UnaryOperator)} em todas as linhas.
+         * <br/><br/>
+         * Assim como um {@link HashMap}, o {@link Map} retornado por {@link #done()} pode ser consultado por várias
+         * <i>threads</i>, desde que nem ele nem o {@link Map} de origem sejam alterados.
+         *
+         * @param renameKeyFunction função que retorna o novo nome de cada chave.
+         * @return a própria instância de {@link MapBuilder}.
+         */
+        MapBuilder rename(UnaryOperator<String> renameKeyFunction);
+
+        MapBuilder ignore();
+
+        /**
+         * Passa a construir o {@link Map} de forma persistente (imutável), em que {@link #pair(String, Object)} e
+         * {@link #merge(Map)} criam nova versão compartilhando a estrutura da versão anterior, ao invés de
+         * copiá-la. Nesse modo, {@link #done()} retorna o próprio {@link Map} imutável, sem cópia, o qual pode ser
+         * utilizado como origem de outro {@link MapBuilder} também sem cópia.
+         *
+         * @return a própria instância de {@link MapBuilder}.
+         */
+        MapBuilder persistent();
+        Map<String, Object> done();
+    }
+
+    public static MapBuilder map() {
+        return new MapBuilderImpl(new HashMap<>(), true);
+    }
+
+    public static MapBuilder map(Map<String, Object> source) {
+        return new MapBuilderImpl(source);
+    }
+
+    /**
+     * Cria função de renomeação que memoriza o nome de cada chave já renomeada por <code>function</code>, para
+     * ser utilizada em {@link MapBuilder#rename(UnaryOperator)}. Todas as chamadas com a instância retornada
+     * compartilham a mesma tabela de renomeação, de forma que, ao renomear as colunas de várias linhas de um
+     * {@link ResultSet}, <code>function</code> é aplicada uma única vez por coluna.
+     * <br/><br/>
+     * A instância retornada é <i>thread-safe</i> e deve ser descartada junto com o processamento que a utiliza.
+     *
+     * @param function função que retorna o novo nome de cada chave.
+     * @return função de renomeação com a tabela memorizada.
+     */
+    public static UnaryOperator<String> renaming(UnaryOperator<String> function) {
+        return new RenamedMap.Renaming(function);
+    }
+
+    public static MapBuilder map(ResultSet rs) {
+        try {
+            ResultSetMetaData metaData = rs.getMetaData();
+            HashMap<String, Object> resultSetMap = new HashMap<>();
+            for (int index = 1; index <= metaData.getColumnCount(); index++)
+                resultSetMap.put(metaData.getColumnName(index), rs.getObject(index));
+            return new MapBuilderImpl(resultSetMap, true);
+        } catch (Exception e) {
+            throw Oops.of(e);
+        }
+    }
+
+    /*
+     * Métodos públicos de cada classe, agrupados por nome, e MethodHandle de cada método já chamado via invoke,
+     * na forma (Object, Object[]) -> Object, indexados pela classe que declara o método, de forma que nenhum dos
+     * dois caches impede que a classe seja descarregada.
+     */
+    private static final ClassValue<Map<String, Method[]>> methods = new ClassValue<Map<String, Method[]>>() {
+        protected Map<String, Method[]> computeValue(Class<?> type) {
+            Map<String, Method[]> methods = new HashMap<>();
+            for (Method method : type.getMethods())
+                methods.merge(method.getName(), new Method[] { method }, (first, second) -> {
+                    Method[] merged = Arrays.copyOf(first, first.length + 1);
+                    merged[first.length] = second[0];
+                    return merged;
+                });
+            return methods;
+        }
+    };
+
+    private static final ClassValue<Map<Method, MethodHandle>> invokers =
+            new ClassValue<Map<Method, MethodHandle>>() {
+                protected Map<Method, MethodHandle> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    /*
+     * Os métodos do cache não são expostos: cada chamada retorna nova instância de Method, obtida da classe que o
+     * declara, de forma que setAccessible em uma instância não afeta as demais.
+     */
+    public static Method method(Class<?> type, String name, Class<?>... parameterTypes) {
+        Method[] candidates = methods.get(type).get(name);
+        if (candidates != null)
+            for (Method m : candidates)
+                if (m.getParameterCount() == parameterTypes.length
+                        && Arrays.equals(m.getParameterTypes(), parameterTypes))
+                    try {
+                        return m.getDeclaringClass().getMethod(name, parameterTypes);
+                    } catch (NoSuchMethodException e) {
+                        throw Oops.of(e);
+                    }
+        return null;
+    }
+
+    public static Object invoke(Object object, Method method, Object... parameters) {
+        try {
+            return invokers.get(method.getDeclaringClass())
+                    .computeIfAbsent(method, Core::invoker)
+                    .invokeExact(object, parameters);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new Oops(e.getMessage(), e);
+        }
+    }
+
+    /*
+     * Métodos de classes não públicas, ou de pacotes não exportados, não são acessíveis via publicLookup. Nesse
+     * caso, uma cópia do método, obtida via getDeclaredMethod, é tornada acessível e convertida via lookup da
+     * própria biblioteca, sem alterar a instância recebida, e, quando nem isso é permitido, a chamada é delegada a
+     * Method.invoke.
+     */
+    private static MethodHandle invoker(Method method) {
+        MethodType type = MethodType.methodType(Object.class, Object.class, Object[].class);
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            handle = privateInvoker(method);
+        }
+        if (handle == null)
+            try {
+                return MethodHandles.lookup()
+                        .findStatic(Core.class, "reflect", MethodType.methodType(Object.class, Method.class,
+                                Object.class, Object[].class))
+                        .bindTo(method);
+            } catch (ReflectiveOperationException cause) {
+                throw Oops.of(cause);
+            }
+        handle = handle.asFixedArity();
+        if (Modifier.isStatic(method.getModifiers()))
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        return handle
+                .asType(handle.type().generic())
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(type);
+    }
+
+    private static MethodHandle privateInvoker(Method method) {
+        try {
+            Method copy = method.getDeclaringClass().getDeclaredMethod(method.getName(), method.getParameterTypes());
+            copy.setAccessible(true);
+            return MethodHandles.lookup().unreflect(copy);
+        } catch (RuntimeException | ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static Object reflect(Method method, Object object, Object[] parameters) throws Throwable {
+        try {
+            return method.invoke(object, parameters);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Distribuição da latência simulada nas chamadas a um método de mock.
+     */
+    @FunctionalInterface
+    public interface Latency {
+
+        /**
+         * @return duração da próxima chamada, em nanossegundos.
+         */
+        long nanos();
+
+        static Latency fixed(long duration, TimeUnit unit) {
+            long nanos = unit.toNanos(duration);
+            return () -> nanos;
+        }
+
+        static Latency uniform(long min, long max, TimeUnit unit) {
+            long minNanos = unit.toNanos(min);
+            long maxNanos = unit.toNanos(max);
+            return () -> minNanos + (long) (ThreadLocalRandom.current().nextDouble() * (maxNanos - minNanos));
+        }
+
+        /**
+         * Distribuição definida pelos percentis informados, com interpolação linear entre eles.
+         *
+         * @param unit unidade de tempo dos valores.
+         * @param min menor duração.
+         * @param p50 duração no percentil 50 (mediana).
+         * @param p90 duração no percentil 90.
+         * @param p99 duração no percentil 99.
+         * @param max maior duração.
+         * @return a distribuição.
+         */
+        static Latency percentiles(TimeUnit unit, long min, long p50, long p90, long p99, long max) {
+            double[] percentiles = { 0, 50, 90, 99, 100 };
+            long[] nanos = {
+                    unit.toNanos(min), unit.toNanos(p50), unit.toNanos(p90), unit.toNanos(p99), unit.toNanos(max) };
+            return () -> {
+                double percentile = ThreadLocalRandom.current().nextDouble() * 100;
+                int index = 1;
+                while (index < percentiles.length - 1 && percentile > percentiles[index])
+                    index++;
+                double fraction = (percentile - percentiles[index - 1]) / (percentiles[index] - percentiles[index - 1]);
+                return nanos[index - 1] + (long) (fraction * (nanos[index] - nanos[index - 1]));
+            };
+        }
+    }
+
+    /**
+     * Contagem e histograma de duração das chamadas a um método de mock.
+     */
+    public interface Calls {
+        long count();
+        long max(TimeUnit unit);
+        double mean(TimeUnit unit);
+
+        /**
+         * @param percentile percentil, entre 0 e 100.
+         * @param unit unidade de tempo do valor retornado.
+         * @return duração no percentil informado, com precisão de aproximadamente 12,5%.
+         */
+        long percentile(double percentile, TimeUnit unit);
+    }
+
+    public interface MockBuilder<T> {
+        MockBuilder<T> returns(Function<T, ?> function);
+
+        /**
+         * Simula latência no método chamado por <code>function</code> (para quaisquer argumentos), fazendo cada
+         * chamada aguardar a duração obtida de <code>latency</code> antes de retornar.
+         *
+         * @param function função que chama o método do mock.
+         * @param latency distribuição da latência.
+         * @return a própria instância de {@link MockBuilder}.
+         */
+        MockBuilder<T> latency(Function<T, ?> function, Latency latency);
+
+        /**
+         * Passa a registrar a quantidade e a duração das chamadas a cada método dos mocks criados por
+         * {@link #done()}, consultadas através de {@link #calls(Function)}. O registro pode ser feito por várias
+         * threads simultaneamente.
+         *
+         * @return a própria instância de {@link MockBuilder}.
+         */
+        MockBuilder<T> record();
+
+        /**
+         * @param function função que chama o método do mock.
+         * @return as chamadas registradas ao método, com quaisquer argumentos, por todos os mocks criados por este
+         * {@link MockBuilder}.
+         */
+        Calls calls(Function<T, ?> function);
+
+        /**
+         * Faz com que {@link #done()} retorne instância de uma classe gerada em tempo de execução que implementa a
+         * interface, ao invés de {@link java.lang.reflect.Proxy}. Métodos sem parâmetros retornam diretamente o
+         * valor configurado, com custo equivalente ao de uma chamada virtual, e os demais não passam pelo
+         * <code>InvocationHandler</code>.
+         * <br/><br/>
+         * Os valores são copiados para o mock em {@link #done()}, de forma que chamadas posteriores de
+         * {@link #returns(Function)} não o afetam. Quando a interface ou algum tipo de parâmetro ou retorno dos seus
+         * métodos não é público, ou quando há latência ou registro de chamadas configurados, o mock continua sendo
+         * criado com {@link java.lang.reflect.Proxy}.
+         *
+         * @return a própria instância de {@link MockBuilder}.
+         */
+        MockBuilder<T> generated();
+        T done();
+    }
+
+    public static <T> MockBuilder<T> mock(Class<T> type) {
+        return new MockBuilderImpl<>(type);
+    }
+
+    public static <T> Deque<T> push(Deque<T> deque, T value) {
+        deque.push(value);
+        return deque;
+    }
+
+    public static void set(Field field, Object object, Object value) {
+        try {
+            BuildPlan.setter(field).invokeExact(object, value);
+        } catch (Error | Oops e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new Oops(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Cria nova instância de <code>type</code> através da construtora sem parâmetros e atribui <code>args</code>
+     * aos campos declarados na classe, na ordem em que são declarados.
+     * <br/><br/>
+     * A construtora e os campos de cada classe são resolvidos uma única vez, e as atribuições são feitas via
+     * {@link java.lang.invoke.MethodHandle}, sem <i>Reflection</i> a cada chamada.
+     *
+     * @param type classe do objeto.
+     * @param args valores dos campos.
+     * @param <T> tipo do objeto.
+     * @return nova instância de <code>T</code>.
+     */
+    public static <T> T build(Class<T> type, Object... args) {
+        return BuildPlan.of(type).build(args);
+    }
+
+    /**
+     * Cria uma instância de <code>type</code> para cada array de <code>rows</code>, conforme
+     * {@link #build(Class, Object...)}.
+     *
+     * @param type classe dos objetos.
+     * @param rows valores dos campos de cada objeto.
+     * @param <T> tipo dos objetos.
+     * @return lista com as novas instâncias de <code>T</code>, na ordem de <code>rows</code>.
+     */
+    public static <T> List<T> buildAll(Class<T> type, Iterable<Object[]> rows) {
+        BuildPlan<T> plan = BuildPlan.of(type);
+        List<T> objects = rows instanceof Collection
+                ? new ArrayList<>(((Collection<?>) rows).size())
+                : new ArrayList<>();
+        for (Object[] row : rows)
+            objects.add(plan.build(row));
+        return objects;
+    }
+
+    private Core() {
+    }
+}
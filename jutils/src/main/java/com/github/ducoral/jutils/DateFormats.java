@@ -0,0 +1,216 @@
+package com.github.ducoral.jutils;
+
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static com.github.ducoral.jutils.Constants.Strings.JSON_DATETIME_FORMAT;
+import static com.github.ducoral.jutils.Constants.Strings.JSON_TIME_FORMAT;
+import static com.github.ducoral.jutils.Core.property;
+
+/*
+ * Formatação de datas com formatadores imutáveis, obtidos uma única vez por padrão e Locale padrão de formatação
+ * (Locale.Category.FORMAT), o mesmo utilizado por SimpleDateFormat.
+ *
+ * Para Date, os padrões cujas letras têm o mesmo significado em SimpleDateFormat e em DateTimeFormatter são
+ * convertidos para DateTimeFormatter, aplicado à data no fuso horário padrão corrente. Os padrões de JSON do arquivo
+ * de propriedades padrão são formatados escrevendo diretamente os dígitos. Os demais padrões, as datas anteriores à
+ * adoção do calendário gregoriano (em que SimpleDateFormat usa o calendário juliano) e as posteriores ao ano 9999
+ * continuam sendo formatados por SimpleDateFormat.
+ */
+final class DateFormats {
+
+    static final String TIME_PATTERN = property(JSON_TIME_FORMAT);
+
+    static final String DATETIME_PATTERN = property(JSON_DATETIME_FORMAT);
+
+    private static final String DEFAULT_TIME_PATTERN = "hh:mm:ss";
+
+    private static final String DEFAULT_DATETIME_PATTERN = "yyyy-MM-dd'T'hh:mm:ss";
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    /*
+     * Intervalo em que DateTimeFormatter e SimpleDateFormat coincidem, com um dia de margem para o fuso horário: do
+     * início do calendário gregoriano (15/10/1582) ao fim do ano 9999, após o qual DateTimeFormatter inclui o sinal.
+     */
+    private static final long MIN_MILLIS = -12_219_292_800_000L + MILLIS_PER_DAY;
+
+    private static final long MAX_MILLIS = 253_402_300_800_000L - MILLIS_PER_DAY;
+
+    /*
+     * Letras com o mesmo significado nos dois formatadores, com a quantidade máxima de repetições em que o resultado
+     * também é o mesmo. Fração de segundo (S) somente como SSS, que equivale aos milissegundos.
+     */
+    private static final String LETTERS = "GyMdHhkKmsaEZS";
+
+    private static final int[] MAX_COUNT = {3, Integer.MAX_VALUE, 4, 2, 2, 2, 2, 2, 2, 2, 1, 4, 3, 3};
+
+    private static final Map<Class<?>, DateTimeFormatter> ISO = new HashMap<>();
+
+    static {
+        ISO.put(LocalDate.class, DateTimeFormatter.ISO_LOCAL_DATE);
+        ISO.put(LocalDateTime.class, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        ISO.put(LocalTime.class, DateTimeFormatter.ISO_LOCAL_TIME);
+        ISO.put(OffsetDateTime.class, DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+        ISO.put(ZonedDateTime.class, DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+        ISO.put(OffsetTime.class, DateTimeFormatter.ISO_OFFSET_TIME);
+        ISO.put(Instant.class, DateTimeFormatter.ISO_INSTANT);
+    }
+
+    private static final Map<Locale, Map<String, Function<Date, String>>> dates = new ConcurrentHashMap<>();
+
+    private static final Map<Locale, Map<String, DateTimeFormatter>> temporals = new ConcurrentHashMap<>();
+
+    static String format(Date date, String pattern) {
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        return dates.computeIfAbsent(locale, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(pattern, key -> compile(key, locale))
+                .apply(date);
+    }
+
+    static String format(TemporalAccessor value, String pattern) {
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        return temporals.computeIfAbsent(locale, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(pattern, key -> DateTimeFormatter.ofPattern(key, locale))
+                .format(value);
+    }
+
+    static boolean isIso(Object value) {
+        return value != null && ISO.containsKey(value.getClass());
+    }
+
+    static String iso(TemporalAccessor value) {
+        return ISO.get(value.getClass()).format(value);
+    }
+
+    private static Function<Date, String> compile(String pattern, Locale locale) {
+        Function<Date, String> legacy = date -> new SimpleDateFormat(pattern, locale).format(date);
+        if (pattern.equals(DEFAULT_TIME_PATTERN))
+            return DateFormats::time;
+        if (pattern.equals(DEFAULT_DATETIME_PATTERN))
+            return date -> dateTime(date, legacy);
+        if (!isCompatible(pattern))
+            return legacy;
+        DateTimeFormatter formatter;
+        try {
+            formatter = DateTimeFormatter.ofPattern(pattern, locale);
+        } catch (IllegalArgumentException e) {
+            return legacy;
+        }
+        return date -> date.getTime() < MIN_MILLIS || date.getTime() > MAX_MILLIS
+                ? legacy.apply(date)
+                : formatter.format(Instant.ofEpochMilli(date.getTime()).atOffset(offset(date)));
+    }
+
+    private static boolean isCompatible(String pattern) {
+        int index = 0;
+        while (index < pattern.length()) {
+            char ch = pattern.charAt(index);
+            if (ch == '\'') {
+                int end = pattern.indexOf('\'', index + 1);
+                if (end < 0)
+                    return false;
+                index = end + 1;
+            } else if (ch == '[' || ch == ']' || ch == '{' || ch == '}' || ch == '#')
+                return false;
+            else if (ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z') {
+                int letter = LETTERS.indexOf(ch);
+                int count = 1;
+                while (index + count < pattern.length() && pattern.charAt(index + count) == ch)
+                    count++;
+                if (letter < 0 || count > MAX_COUNT[letter] || ch == 'S' && count != 3)
+                    return false;
+                index += count;
+            } else
+                index++;
+        }
+        return true;
+    }
+
+    /*
+     * hh:mm:ss, com a hora de 1 a 12.
+     */
+    private static String time(Date date) {
+        long local = local(date);
+        char[] chars = new char[8];
+        writeTime(chars, 0, Math.floorMod(local, MILLIS_PER_DAY));
+        return new String(chars);
+    }
+
+    /*
+     * yyyy-MM-dd'T'hh:mm:ss, para os anos de 1583 a 9999. Fora desse intervalo, o ano teria outra quantidade de
+     * dígitos ou seria do calendário juliano.
+     */
+    private static String dateTime(Date date, Function<Date, String> legacy) {
+        long local = local(date);
+        long days = Math.floorDiv(local, MILLIS_PER_DAY);
+        long zero = days + 719_468;
+        long era = Math.floorDiv(zero, 146_097);
+        long dayOfEra = zero - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long monthIndex = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * monthIndex + 2) / 5 + 1);
+        int month = (int) (monthIndex < 10 ? monthIndex + 3 : monthIndex - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < 1583 || year > 9999)
+            return legacy.apply(date);
+        char[] chars = new char[19];
+        writeDigits(chars, 0, (int) year / 100);
+        writeDigits(chars, 2, (int) year % 100);
+        chars[4] = '-';
+        writeDigits(chars, 5, month);
+        chars[7] = '-';
+        writeDigits(chars, 8, day);
+        chars[10] = 'T';
+        writeTime(chars, 11, local - days * MILLIS_PER_DAY);
+        return new String(chars);
+    }
+
+    private static long local(Date date) {
+        long millis = date.getTime();
+        return millis + TimeZone.getDefault().getOffset(millis);
+    }
+
+    /*
+     * Deslocamento do fuso horário padrão conforme TimeZone, como em SimpleDateFormat, que difere do obtido via
+     * ZoneId em datas antigas, anteriores aos fusos horários padronizados.
+     */
+    private static ZoneOffset offset(Date date) {
+        return ZoneOffset.ofTotalSeconds(TimeZone.getDefault().getOffset(date.getTime()) / 1000);
+    }
+
+    private static void writeTime(char[] chars, int offset, long millisOfDay) {
+        int seconds = (int) (millisOfDay / 1000);
+        int hour = seconds / 3600 % 12;
+        writeDigits(chars, offset, hour == 0 ? 12 : hour);
+        chars[offset + 2] = ':';
+        writeDigits(chars, offset + 3, seconds / 60 % 60);
+        chars[offset + 5] = ':';
+        writeDigits(chars, offset + 6, seconds % 60);
+    }
+
+    private static void writeDigits(char[] chars, int offset, int value) {
+        chars[offset] = (char) ('0' + value / 10);
+        chars[offset + 1] = (char) ('0' + value % 10);
+    }
+
+    private DateFormats() {
+    }
+}
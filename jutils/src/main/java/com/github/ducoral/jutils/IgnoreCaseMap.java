@@ -0,0 +1,298 @@
+package com.github.ducoral.jutils;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/*
+ * Map de chaves String que ignora maiúsculas e minúsculas, com endereçamento aberto (sondagem linear).
+ *
+ * O hash e a comparação das chaves são calculados caractere a caractere, sem criar nova String em get, put,
+ * containsKey ou remove. As chaves mantêm a grafia da primeira inserção.
+ */
+final class IgnoreCaseMap extends AbstractMap<String, Object> {
+
+    private static final int MINIMUM_CAPACITY = 8;
+
+    private static final String REMOVED = new String("");
+
+    private String[] keys;
+
+    private Object[] values;
+
+    private int[] hashes;
+
+    private int size;
+
+    private int used;
+
+    IgnoreCaseMap() {
+        this(MINIMUM_CAPACITY);
+    }
+
+    IgnoreCaseMap(int expectedSize) {
+        allocate(capacity(expectedSize));
+    }
+
+    IgnoreCaseMap(Map<? extends String, ?> source) {
+        this(source.size());
+        putAll(source);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        String str = key(key);
+        return indexOf(str, hash(str)) > -1;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (int index = 0; index < keys.length; index++)
+            if (isPresent(index) && (value == null ? values[index] == null : value.equals(values[index])))
+                return true;
+        return false;
+    }
+
+    @Override
+    public Object get(Object key) {
+        String str = key(key);
+        int index = indexOf(str, hash(str));
+        return index > -1 ? values[index] : null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        String str = key(key);
+        int hash = hash(str);
+        int index = indexOf(str, hash);
+        if (index > -1) {
+            Object previous = values[index];
+            values[index] = value;
+            return previous;
+        }
+        if ((used + 1) * 4 > keys.length * 3)
+            resize(capacity(size + 1));
+        index = freeIndex(hash);
+        if (keys[index] == null)
+            used++;
+        keys[index] = str;
+        values[index] = value;
+        hashes[index] = hash;
+        size++;
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        String str = key(key);
+        int index = indexOf(str, hash(str));
+        if (index < 0)
+            return null;
+        Object previous = values[index];
+        removeAt(index);
+        return previous;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> source) {
+        if ((used + source.size()) * 4 > keys.length * 3)
+            resize(capacity(size + source.size()));
+        for (Entry<? extends String, ?> entry : source.entrySet())
+            put(entry.getKey(), entry.getValue());
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(values, null);
+        size = 0;
+        used = 0;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            public Iterator<Entry<String, Object>> iterator() {
+                return new EntryIterator();
+            }
+
+            public int size() {
+                return size;
+            }
+
+            public void clear() {
+                IgnoreCaseMap.this.clear();
+            }
+        };
+    }
+
+    static int hash(String key) {
+        int hash = 0;
+        for (int index = 0; index < key.length(); index++)
+            hash = 31 * hash + fold(key.charAt(index));
+        return hash ^ (hash >>> 16);
+    }
+
+    static boolean equals(String key, String other) {
+        return key == other || key.length() == other.length() && key.regionMatches(true, 0, other, 0, key.length());
+    }
+
+    private static char fold(char ch) {
+        if (ch < 128)
+            return ch >= 'A' && ch <= 'Z' ? (char) (ch + ('a' - 'A')) : ch;
+        return Character.toLowerCase(Character.toUpperCase(ch));
+    }
+
+    private static String key(Object key) {
+        return key instanceof String ? (String) key : String.valueOf(key);
+    }
+
+    private static int capacity(int expectedSize) {
+        int capacity = MINIMUM_CAPACITY;
+        while (capacity * 3 < expectedSize * 4 + 4)
+            capacity <<= 1;
+        return capacity;
+    }
+
+    private int indexOf(String key, int hash) {
+        int mask = keys.length - 1;
+        for (int index = hash & mask; keys[index] != null; index = (index + 1) & mask)
+            if (keys[index] != REMOVED && hashes[index] == hash && equals(keys[index], key))
+                return index;
+        return -1;
+    }
+
+    private int freeIndex(int hash) {
+        int mask = keys.length - 1;
+        int index = hash & mask;
+        while (keys[index] != null && keys[index] != REMOVED)
+            index = (index + 1) & mask;
+        return index;
+    }
+
+    private boolean isPresent(int index) {
+        return keys[index] != null && keys[index] != REMOVED;
+    }
+
+    private void removeAt(int index) {
+        keys[index] = REMOVED;
+        values[index] = null;
+        size--;
+    }
+
+    private void allocate(int capacity) {
+        keys = new String[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        used = size;
+    }
+
+    private void resize(int capacity) {
+        String[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        allocate(Math.max(capacity, keys.length));
+        for (int index = 0; index < oldKeys.length; index++)
+            if (oldKeys[index] != null && oldKeys[index] != REMOVED) {
+                int free = freeIndex(oldHashes[index]);
+                keys[free] = oldKeys[index];
+                values[free] = oldValues[index];
+                hashes[free] = oldHashes[index];
+            }
+    }
+
+    private class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        int next = advance(0);
+
+        int last = -1;
+
+        public boolean hasNext() {
+            return next < keys.length;
+        }
+
+        public Entry<String, Object> next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            last = next;
+            next = advance(next + 1);
+            return new IndexEntry(last);
+        }
+
+        public void remove() {
+            if (last < 0)
+                throw new IllegalStateException();
+            removeAt(last);
+            last = -1;
+        }
+
+        private int advance(int from) {
+            int index = from;
+            while (index < keys.length && !isPresent(index))
+                index++;
+            return index;
+        }
+    }
+
+    /*
+     * Entrada do iterador, que altera o valor diretamente no array. Não estende SimpleEntry, que é Serializable e,
+     * sendo esta uma classe interna, levaria junto a referência ao mapa.
+     */
+    private class IndexEntry implements Entry<String, Object> {
+
+        final int index;
+
+        final String key;
+
+        Object value;
+
+        IndexEntry(int index) {
+            this.index = index;
+            this.key = keys[index];
+            this.value = values[index];
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+
+        public Object setValue(Object value) {
+            Object previous = this.value;
+            values[index] = value;
+            this.value = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Entry))
+                return false;
+            Entry<?, ?> entry = (Entry<?, ?>) other;
+            return Objects.equals(key, entry.getKey()) && Objects.equals(value, entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.github.ducoral.jutils;
+
+import com.github.ducoral.jutils.Scanner.Token;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import static com.github.ducoral.jutils.Core.JsonFeed;
+
+/*
+ * Leitura incremental de uma sequência de valores JSON recebida em partes.
+ *
+ * Os bytes de cada parte são percorridos uma única vez por uma varredura estrutural, como em JsonSplitter, cujo
+ * estado (profundidade, string aberta, escape) é mantido entre as partes. Os bytes do valor corrente são acumulados
+ * até que ele se complete: objetos e arrays no fechamento do nível superior, strings no delimitador final, e os
+ * demais literais no primeiro espaço ou caractere estrutural seguinte (ou em close). O valor completo é então lido
+ * por JsonParser sobre ByteScanner, com os mesmos tokens, resultados e erros de Core.parseJson.
+ */
+class JsonFeedImpl implements JsonFeed {
+
+    private final Consumer<Object> consumer;
+
+    private byte[] pending = new byte[256];
+
+    private int size;
+
+    private boolean started;
+
+    private boolean literal;
+
+    private int depth;
+
+    private int delimiter;
+
+    private boolean escaped;
+
+    JsonFeedImpl(Consumer<Object> consumer) {
+        this.consumer = consumer;
+    }
+
+    public void feed(ByteBuffer chunk) {
+        int limit = chunk.limit();
+        int from = chunk.position();
+        int index = from;
+        while (index < limit) {
+            int current = chunk.get(index) & 0xFF;
+            if (!started) {
+                if (isWhitespace(current)) {
+                    from = ++index;
+                    continue;
+                }
+                start(current);
+                if (isStructural(current) && literal) {
+                    index++;
+                    append(chunk, from, index);
+                    complete(chunk, index);
+                    from = index;
+                    continue;
+                }
+            } else if (literal) {
+                if (isWhitespace(current) || isStructural(current)) {
+                    append(chunk, from, index);
+                    complete(chunk, index);
+                    from = index;
+                    continue;
+                }
+            } else if (delimiter != 0) {
+                if (escaped)
+                    escaped = false;
+                else if (current == '\\')
+                    escaped = true;
+                else if (current == delimiter) {
+                    delimiter = 0;
+                    if (depth == 0) {
+                        index++;
+                        append(chunk, from, index);
+                        complete(chunk, index);
+                        from = index;
+                        continue;
+                    }
+                }
+            } else if (current == '"' || current == '\'')
+                delimiter = current;
+            else if (current == '{' || current == '[')
+                depth++;
+            else if ((current == '}' || current == ']') && --depth == 0) {
+                index++;
+                append(chunk, from, index);
+                complete(chunk, index);
+                from = index;
+                continue;
+            }
+            index++;
+        }
+        append(chunk, from, limit);
+        ((Buffer) chunk).position(limit);
+    }
+
+    public void close() {
+        if (started)
+            complete(null, 0);
+    }
+
+    private void start(int current) {
+        started = true;
+        if (current == '{' || current == '[')
+            depth = 1;
+        else if (current == '"' || current == '\'')
+            delimiter = current;
+        else
+            literal = true;
+    }
+
+    /*
+     * Apenas espaços ASCII: os bytes acima de 0x7F fazem parte de caracteres UTF-8 multibyte.
+     */
+    private static boolean isWhitespace(int ch) {
+        return ch < 0x80 && Scanner.isWhitespace(ch);
+    }
+
+    private static boolean isStructural(int ch) {
+        return ch == '{' || ch == '}' || ch == '[' || ch == ']' || ch == ',' || ch == ':' || ch == '"' || ch == '\'';
+    }
+
+    private void append(ByteBuffer chunk, int from, int to) {
+        int count = to - from;
+        if (count <= 0)
+            return;
+        if (size + count > pending.length)
+            pending = Arrays.copyOf(pending, Math.max(size + count, pending.length * 2));
+        if (chunk.hasArray())
+            System.arraycopy(chunk.array(), chunk.arrayOffset() + from, pending, size, count);
+        else {
+            ByteBuffer source = chunk.duplicate();
+            ((Buffer) source).limit(to).position(from);
+            source.get(pending, size, count);
+        }
+        size += count;
+    }
+
+    /*
+     * Lê e entrega o valor acumulado. Em caso de erro, o valor é descartado e a parte corrente fica posicionada
+     * após ele, de forma que a leitura pode prosseguir com uma nova chamada a feed.
+     */
+    private void complete(ByteBuffer chunk, int position) {
+        ByteScanner scanner = new ByteScanner(ByteBuffer.wrap(pending, 0, size));
+        started = literal = escaped = false;
+        depth = delimiter = size = 0;
+        if (chunk != null)
+            ((Buffer) chunk).position(position);
+        if (scanner.token() != Token.EOF)
+            consumer.accept(new JsonParser(scanner).parse());
+    }
+}
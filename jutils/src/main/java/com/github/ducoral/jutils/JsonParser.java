@@ -0,0 +1,230 @@
+package com.github.ducoral.jutils;
+
+import com.github.ducoral.jutils.Scanner.Token;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.ducoral.jutils.Constants.Strings.INVALID_EXPECTED_TOKEN;
+import static com.github.ducoral.jutils.Constants.Strings.INVALID_TOKEN;
+import static com.github.ducoral.jutils.Constants.Strings.JSON_MAX_DEPTH;
+
+/* ================================================
+           json ::= empty
+                  | value
+
+          value ::= object
+                  | array
+                  | literal
+
+         object ::= '{' properties '}'
+
+     properties ::= empty
+                  | property properties_rest
+
+       property ::= string ':' value
+
+properties_rest ::= empty
+                  | ',' property properties_rest
+
+          array ::= '[' items ']'
+
+          items ::= empty
+                  | value items_rest
+
+     items_rest ::= empty
+                  | ',' value items_rest
+
+        literal ::= string
+                  | integer
+                  | decimal
+                  | boolean
+                  | null
+================================================ */
+class JsonParser {
+
+    static final int DEFAULT_MAX_DEPTH = 512;
+
+    /*
+     * Parser reutilizado pelas leituras de String de cada thread, para que a leitura de muitos documentos pequenos
+     * aloque apenas os objetos do resultado.
+     */
+    private static final ThreadLocal<JsonParser> local = ThreadLocal.withInitial(() -> new JsonParser(new Scanner("")));
+
+    Lexer scanner;
+
+    final int maxDepth;
+
+    /*
+     * Pilha dos objetos e arrays ainda abertos. Para cada nível, keys contém a chave da propriedade em leitura,
+     * quando o contêiner é um objeto, ou null, quando é um array.
+     */
+    private Object[] containers = new Object[16];
+
+    private String[] keys = new String[16];
+
+    private int depth;
+
+    JsonParser(Lexer scanner) {
+        this(scanner, DEFAULT_MAX_DEPTH);
+    }
+
+    JsonParser(Lexer scanner, int maxDepth) {
+        this.scanner = scanner;
+        this.maxDepth = maxDepth;
+    }
+
+    static JsonParser local() {
+        return local.get();
+    }
+
+    JsonParser reset(String document) {
+        return reset(document, 0, document.length());
+    }
+
+    /*
+     * Reinicia o parser sobre o trecho [start, end) do documento, descartando o estado de uma leitura anterior
+     * interrompida por erro, mas mantendo a pilha e o cache de lexemas do scanner.
+     */
+    JsonParser reset(String document, int start, int end) {
+        while (depth > 0)
+            pop();
+        if (scanner instanceof Scanner)
+            ((Scanner) scanner).reset(document, start, end);
+        else
+            scanner = new Scanner("").reset(document, start, end);
+        return this;
+    }
+
+    /*
+     * Lê o documento e libera a referência a ele, de forma que um parser reutilizado não retenha o último documento.
+     */
+    Object parse(String document, int start, int end) {
+        try {
+            return reset(document, start, end).parse();
+        } finally {
+            reset("", 0, 0);
+        }
+    }
+
+    Object parse() {
+        Object value = scanner.token() == Token.EOF ? null : parseValue();
+        accept(Token.EOF);
+        return value;
+    }
+
+    /*
+     * Lê um valor de forma iterativa: objetos e arrays abertos são empilhados, e cada valor completo é incluído no
+     * contêiner do topo, que é desempilhado ao ser fechado.
+     */
+    @SuppressWarnings("unchecked")
+    private Object parseValue() {
+        int bottom = depth;
+        while (true) {
+            Object value;
+            switch (scanner.token()) {
+                case OPEN_BRACES:
+                    open();
+                    if (isClosing(Token.CLOSE_BRACES)) {
+                        value = new LinkedHashMap<>();
+                        break;
+                    }
+                    push(new LinkedHashMap<>(), parseKey());
+                    continue;
+                case OPEN_BRACKETS:
+                    open();
+                    if (isClosing(Token.CLOSE_BRACKETS)) {
+                        value = new ArrayList<>();
+                        break;
+                    }
+                    push(new ArrayList<>(), null);
+                    continue;
+                case STRING: value = accept(Token.STRING); break;
+                case INTEGER: value = new BigInteger(accept(Token.INTEGER)); break;
+                case DECIMAL: value = new BigDecimal(accept(Token.DECIMAL)); break;
+                case BOOLEAN: value = Boolean.valueOf(accept(Token.BOOLEAN)); break;
+                case NULL: accept(Token.NULL); value = null; break;
+                default: throw Oops.of(INVALID_TOKEN, scanner.token());
+            }
+            while (depth > bottom) {
+                int top = depth - 1;
+                if (keys[top] != null) {
+                    ((Map<String, Object>) containers[top]).put(keys[top], value);
+                    if (scanner.token() == Token.COMMA) {
+                        accept(Token.COMMA);
+                        keys[top] = parseKey();
+                        break;
+                    } else if (isClosing(Token.CLOSE_BRACES))
+                        value = pop();
+                    else {
+                        keys[top] = parseKey();
+                        break;
+                    }
+                } else {
+                    ((List<Object>) containers[top]).add(value);
+                    if (scanner.token() == Token.COMMA) {
+                        accept(Token.COMMA);
+                        break;
+                    } else if (isClosing(Token.CLOSE_BRACKETS))
+                        value = pop();
+                    else
+                        break;
+                }
+            }
+            if (depth == bottom)
+                return value;
+        }
+    }
+
+    private String parseKey() {
+        String key = accept(Token.STRING);
+        accept(Token.COLON);
+        return key;
+    }
+
+    private void open() {
+        if (depth >= maxDepth)
+            throw Oops.of(JSON_MAX_DEPTH, maxDepth);
+        scanner.scan();
+    }
+
+    /*
+     * Verifica se o contêiner é fechado pelo token corrente, consumindo-o. No fim do documento, reporta o token de
+     * fechamento esperado.
+     */
+    private boolean isClosing(Token token) {
+        if (scanner.token() != token && scanner.token() != Token.EOF)
+            return false;
+        accept(token);
+        return true;
+    }
+
+    private void push(Object container, String key) {
+        if (depth == containers.length) {
+            containers = Arrays.copyOf(containers, depth * 2);
+            keys = Arrays.copyOf(keys, depth * 2);
+        }
+        containers[depth] = container;
+        keys[depth++] = key;
+    }
+
+    private Object pop() {
+        Object container = containers[--depth];
+        containers[depth] = null;
+        keys[depth] = null;
+        return container;
+    }
+
+    private String accept(Token token) {
+        if (scanner.token() != token)
+            throw Oops.of(INVALID_EXPECTED_TOKEN, scanner.token(), token);
+        String lexeme = scanner.lexeme();
+        scanner.scan();
+        return lexeme;
+    }
+}
@@ -0,0 +1,121 @@
+package com.github.ducoral.jutils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/*
+ * Divisão de um array JSON de nível superior nos seus elementos, para leitura em paralelo.
+ *
+ * Uma única varredura estrutural, que apenas conta a profundidade de colchetes e chaves e salta as strings
+ * (considerando o escape com '\'), identifica o intervalo de cada elemento. Os elementos são então lidos por
+ * parsers independentes no ForkJoinPool comum, e o resultado é montado na ordem original.
+ */
+final class JsonSplitter {
+
+    interface Source {
+
+        /*
+         * Caractere (ou byte) na posição informada, ou -1 após o fim do conteúdo.
+         */
+        int at(long index);
+    }
+
+    interface Parser {
+        Object parse(long start, long end);
+    }
+
+    /*
+     * Intervalos [início, fim) de cada elemento, em pares, ou null quando o documento não é um array bem formado,
+     * caso em que deve ser lido sequencialmente, para que o erro seja reportado como de costume.
+     *
+     * Como a vírgula entre os elementos é opcional na gramática, um intervalo entre vírgulas pode conter mais de um
+     * valor, como em [1 2] ou [{}{}]. Nesse caso o resultado também é null, e o documento é lido sequencialmente.
+     */
+    static long[] split(Source source) {
+        long index = skipWhitespace(source, 0);
+        if (source.at(index) != '[')
+            return null;
+        long[] bounds = new long[16];
+        int count = 0;
+        long start = ++index;
+        boolean content = false;
+        boolean ended = false;
+        int depth = 0;
+        while (true) {
+            int ch = source.at(index);
+            if (ch == '"' || ch == '\'') {
+                if (depth == 0 && content)
+                    return null;
+                index = skipString(source, index, ch);
+                if (index < 0)
+                    return null;
+                content = true;
+                ended = depth == 0;
+                continue;
+            }
+            if (ch == -1 || ch == Scanner.CHAR_EOF)
+                return null;
+            if (ch == '[' || ch == '{') {
+                if (depth == 0 && content)
+                    return null;
+                depth++;
+                content = true;
+            } else if ((ch == ']' || ch == '}') && depth > 0)
+                ended = --depth == 0;
+            else if (ch == ',' && depth == 0 || ch == ']') {
+                if (!content && (ch == ',' || count > 0))
+                    return null;
+                if (content) {
+                    if (count + 2 > bounds.length)
+                        bounds = Arrays.copyOf(bounds, bounds.length * 2);
+                    bounds[count++] = start;
+                    bounds[count++] = index;
+                }
+                if (ch == ']')
+                    return source.at(skipWhitespace(source, index + 1)) == -1 ? Arrays.copyOf(bounds, count) : null;
+                start = index + 1;
+                content = false;
+                ended = false;
+            } else if (ch == '}')
+                return null;
+            else if (Scanner.isWhitespace(ch))
+                ended |= depth == 0 && content;
+            else if (depth == 0 && ended)
+                return null;
+            else
+                content = true;
+            index++;
+        }
+    }
+
+    static List<Object> parse(long[] bounds, Parser parser) {
+        return IntStream.range(0, bounds.length / 2)
+                .parallel()
+                .mapToObj(element -> parser.parse(bounds[2 * element], bounds[2 * element + 1]))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static long skipWhitespace(Source source, long index) {
+        while (Scanner.isWhitespace(source.at(index)))
+            index++;
+        return index;
+    }
+
+    private static long skipString(Source source, long index, int delimiter) {
+        index++;
+        while (true) {
+            int ch = source.at(index);
+            if (ch == -1 || ch == Scanner.CHAR_EOF)
+                return -1;
+            if (ch == delimiter)
+                return index + 1;
+            index += ch == '\\' ? 2 : 1;
+        }
+    }
+
+    private JsonSplitter() {
+    }
+}
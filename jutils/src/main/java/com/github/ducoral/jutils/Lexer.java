@@ -0,0 +1,16 @@
+package com.github.ducoral.jutils;
+
+import com.github.ducoral.jutils.Scanner.Token;
+
+/*
+ * Fonte de tokens consumida por JsonParser, implementada por Scanner (sobre String) e ByteScanner (sobre bytes
+ * UTF-8). O lexema do token corrente pode ser calculado sob demanda.
+ */
+interface Lexer {
+
+    Token token();
+
+    String lexeme();
+
+    void scan();
+}
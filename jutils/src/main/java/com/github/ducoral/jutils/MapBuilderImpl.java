@@ -0,0 +1,74 @@
+package com.github.ducoral.jutils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import static com.github.ducoral.jutils.Core.MapBuilder;
+
+class MapBuilderImpl implements MapBuilder {
+
+    Map<String, Object> map;
+    boolean owned;
+    boolean persistent;
+    boolean ignore = false;
+
+    MapBuilderImpl(Map<String, Object> source) {
+        this(source, false);
+    }
+
+    MapBuilderImpl(Map<String, Object> source, boolean owned) {
+        this.map = source;
+        this.owned = owned;
+        this.persistent = source instanceof PersistentMap;
+    }
+
+    public MapBuilder merge(Map<String, Object> map) {
+        if (persistent)
+            this.map = PersistentMap.of(this.map).plusAll(map);
+        else
+            writable().putAll(map);
+        return this;
+    }
+
+    public MapBuilder rename(UnaryOperator<String> renameKeyFunction) {
+        map = new RenamedMap(map, renameKeyFunction);
+        return this;
+    }
+
+    public MapBuilder pair(String key, Object value) {
+        if (persistent)
+            map = PersistentMap.of(map).plus(key, value);
+        else
+            writable().put(key, value);
+        return this;
+    }
+
+    public MapBuilder ignore() {
+        ignore = true;
+        return this;
+    }
+
+    public MapBuilder persistent() {
+        persistent = true;
+        map = PersistentMap.of(map);
+        return this;
+    }
+
+    public Map<String, Object> done() {
+        if (ignore)
+            return new IgnoreCaseMap(map);
+        else if (persistent)
+            return map instanceof PersistentMap ? map : Collections.unmodifiableMap(map);
+        return owned ? map : new HashMap<>(map);
+    }
+
+    private Map<String, Object> writable() {
+        if (!owned) {
+            map = new HashMap<>(map);
+            owned = true;
+        }
+        return map;
+    }
+}
@@ -0,0 +1,247 @@
+package com.github.ducoral.jutils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+import static java.lang.reflect.Proxy.newProxyInstance;
+import static com.github.ducoral.jutils.Core.*;
+
+class MockBuilderImpl<T> implements MockBuilder<T>, InvocationHandler {
+
+    private static final Object NO_ARGUMENTS = new Object();
+
+    private static final Object NULL = new Object();
+
+    private final ClassLoader loader;
+
+    private final Class<?>[] interfaces;
+
+    private final T mock;
+
+    private final Map<Method, Stub> stubs = new ConcurrentHashMap<>();
+
+    private final AtomicReference<Invocation> invocation = new AtomicReference<>();
+
+    private boolean generated;
+
+    private boolean recording;
+
+    public MockBuilder<T> returns(Function<T, ?> function) {
+        Object returnValue = function.apply(mock);
+        Invocation last = invocation.getAndSet(null);
+        if (last != null)
+            stub(last.method).values.put(key(last.args), returnValue == null ? NULL : returnValue);
+        return this;
+    }
+
+    public MockBuilder<T> latency(Function<T, ?> function, Latency latency) {
+        function.apply(mock);
+        Invocation last = invocation.getAndSet(null);
+        if (last != null)
+            stub(last.method).latency = latency;
+        return this;
+    }
+
+    public MockBuilder<T> record() {
+        recording = true;
+        return this;
+    }
+
+    public Calls calls(Function<T, ?> function) {
+        function.apply(mock);
+        Invocation last = invocation.getAndSet(null);
+        return last == null ? new CallsImpl() : stub(last.method).calls;
+    }
+
+    public MockBuilder<T> generated() {
+        generated = true;
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T done() {
+        MockGenerator generator = generated && !isTimed() ? MockGenerator.of(interfaces[0]) : null;
+        if (generator == null)
+            return (T) newProxyInstance(loader, interfaces, new Mock(stubs, recording));
+        Map<String, Stub> signatures = new HashMap<>();
+        for (Map.Entry<Method, Stub> entry : stubs.entrySet())
+            signatures.put(signature(entry.getKey()), entry.getValue());
+        return (T) generator.newInstance(method -> {
+            Stub stub = signatures.get(signature(method));
+            Class<?> returnType = method.getReturnType();
+            if (method.getParameterCount() == 0)
+                return value(stub, NO_ARGUMENTS, returnType);
+            else if (method.getParameterCount() == 1)
+                return (Function<Object, Object>) argument -> value(stub, key(argument), returnType);
+            return (Function<Object, Object>) arguments -> value(stub, key((Object[]) arguments), returnType);
+        });
+    }
+
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        if (method.getDeclaringClass() == Object.class)
+            return object(proxy, method, args);
+        invocation.set(new Invocation(method, args));
+        return defaultValue(method.getReturnType());
+    }
+
+    private Stub stub(Method method) {
+        return stubs.computeIfAbsent(method, key -> new Stub());
+    }
+
+    private boolean isTimed() {
+        if (recording)
+            return true;
+        for (Stub stub : stubs.values())
+            if (stub.latency != null)
+                return true;
+        return false;
+    }
+
+    static void await(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0 && !Thread.currentThread().isInterrupted())
+            LockSupport.parkNanos(remaining);
+    }
+
+    static Object key(Object[] args) {
+        if (args == null || args.length == 0)
+            return NO_ARGUMENTS;
+        else if (args.length == 1)
+            return key(args[0]);
+        return new Arguments(args);
+    }
+
+    static Object key(Object argument) {
+        if (argument == null)
+            return NULL;
+        else if (argument.getClass().isArray())
+            return new Arguments(new Object[] { argument });
+        return argument;
+    }
+
+    static Object value(Stub stub, Object key, Class<?> returnType) {
+        Object value = stub == null ? null : stub.values.get(key);
+        if (value == null)
+            return defaultValue(returnType);
+        return value == NULL ? null : value;
+    }
+
+    static String signature(Method method) {
+        return method.getName() + Arrays.toString(method.getParameterTypes());
+    }
+
+    static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class)
+            return null;
+        else if (type == boolean.class)
+            return false;
+        else if (type == char.class)
+            return '\0';
+        else if (type == byte.class)
+            return (byte) 0;
+        else if (type == short.class)
+            return (short) 0;
+        else if (type == int.class)
+            return 0;
+        else if (type == long.class)
+            return 0L;
+        else if (type == float.class)
+            return 0f;
+        return 0d;
+    }
+
+    static Object object(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "equals": return proxy == args[0];
+            case "hashCode": return System.identityHashCode(proxy);
+            default: return "Mock@" + Integer.toHexString(System.identityHashCode(proxy));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    MockBuilderImpl(Class<T> type) {
+        loader = MockBuilderImpl.class.getClassLoader();
+        interfaces = new Class[]{ type };
+        mock = (T) newProxyInstance(loader, interfaces,this);
+    }
+
+    static class Mock implements InvocationHandler {
+
+        final Map<Method, Stub> stubs;
+
+        final boolean recording;
+
+        Mock(Map<Method, Stub> stubs, boolean recording) {
+            this.stubs = stubs;
+            this.recording = recording;
+        }
+
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            if (method.getDeclaringClass() == Object.class)
+                return object(proxy, method, args);
+            Stub stub = stubs.get(method);
+            if (stub == null && recording)
+                stub = stubs.computeIfAbsent(method, key -> new Stub());
+            Latency latency = stub == null ? null : stub.latency;
+            if (latency == null && !recording)
+                return value(stub, key(args), method.getReturnType());
+            long start = System.nanoTime();
+            if (latency != null)
+                await(start + latency.nanos());
+            Object value = value(stub, key(args), method.getReturnType());
+            if (recording)
+                stub.calls.record(System.nanoTime() - start);
+            return value;
+        }
+    }
+
+    static class Stub {
+
+        final Map<Object, Object> values = new ConcurrentHashMap<>();
+
+        final CallsImpl calls = new CallsImpl();
+
+        volatile Latency latency;
+    }
+
+    static class Invocation {
+
+        final Method method;
+
+        final Object[] args;
+
+        Invocation(Method method, Object[] args) {
+            this.method = method;
+            this.args = args;
+        }
+    }
+
+    static class Arguments {
+
+        final Object[] args;
+
+        final int hash;
+
+        Arguments(Object[] args) {
+            this.args = args;
+            this.hash = Arrays.deepHashCode(args);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Arguments && Arrays.deepEquals(args, ((Arguments) other).args);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
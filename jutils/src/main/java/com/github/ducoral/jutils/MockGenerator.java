@@ -0,0 +1,514 @@
+package com.github.ducoral.jutils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/*
+ * Gera, em tempo de execução, uma classe concreta que implementa a interface do mock, no lugar de
+ * java.lang.reflect.Proxy.
+ *
+ * Para cada método i da interface, a classe gerada contém um campo público: "v<i>", do tipo de retorno, para
+ * métodos sem parâmetros, cujo corpo apenas retorna o campo; ou "h<i>", do tipo Function, para métodos com
+ * parâmetros, que recebe o próprio argumento (quando único) ou o array dos argumentos. Métodos void não fazem nada.
+ * Os corpos não contêm desvios, dispensando o atributo StackMapTable.
+ *
+ * A partir do Java 15, a classe é definida como classe oculta (Lookup.defineHiddenClass) no pacote da interface,
+ * e pode ser descarregada assim que não houver mais instâncias. Quando isso não é possível (Java 8, ou pacote não
+ * aberto ao módulo da biblioteca), a classe é definida em um ClassLoader próprio, filho do ClassLoader da
+ * interface. Em ambos os casos, só é gerada quando a interface e todos os tipos de parâmetro e retorno dos seus
+ * métodos são públicos.
+ */
+final class MockGenerator {
+
+    private static final String PACKAGE = "com/github/ducoral/jutils/mock/";
+
+    private static final String FUNCTION = "java/util/function/Function";
+
+    private static final AtomicInteger sequence = new AtomicInteger();
+
+    /*
+     * MethodHandles.privateLookupIn e Lookup.defineHiddenClass, obtidos via Reflection para que a biblioteca
+     * continue compilando para Java 8, ou null quando não disponíveis.
+     */
+    private static final MethodHandle privateLookupIn;
+
+    private static final MethodHandle defineHiddenClass;
+
+    private static final Object noOptions;
+
+    static {
+        MethodHandle lookupIn = null;
+        MethodHandle define = null;
+        Object options = null;
+        try {
+            Class<?> option = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+            options = Array.newInstance(option, 0);
+            lookupIn = MethodHandles.publicLookup().findStatic(MethodHandles.class, "privateLookupIn",
+                    MethodType.methodType(Lookup.class, Class.class, Lookup.class));
+            define = MethodHandles.publicLookup().findVirtual(Lookup.class, "defineHiddenClass",
+                    MethodType.methodType(Lookup.class, byte[].class, boolean.class, options.getClass()))
+                    .asFixedArity();
+        } catch (ReflectiveOperationException e) {
+            lookupIn = null;
+            define = null;
+        }
+        privateLookupIn = lookupIn;
+        defineHiddenClass = define;
+        noOptions = options;
+    }
+
+    private static final ClassValue<MockGenerator> generators = new ClassValue<MockGenerator>() {
+        protected MockGenerator computeValue(Class<?> type) {
+            return isSupported(type) ? new MockGenerator(type) : null;
+        }
+    };
+
+    final Method[] methods;
+
+    private final Class<?> mockClass;
+
+    private final Field[] fields;
+
+    private MockGenerator(Class<?> type) {
+        methods = methods(type);
+        Class<?> hidden = defineHidden(type);
+        if (hidden == null) {
+            String name = PACKAGE + type.getName().replace('.', '_') + "$Mock" + sequence.incrementAndGet();
+            byte[] bytes = new ClassWriter(name, type, methods).write();
+            hidden = new Loader(type.getClassLoader()).define(name.replace('/', '.'), bytes);
+        }
+        mockClass = hidden;
+        fields = new Field[methods.length];
+        try {
+            for (int index = 0; index < methods.length; index++)
+                if (methods[index].getReturnType() != void.class)
+                    fields[index] = mockClass.getField(fieldName(methods[index], index));
+        } catch (NoSuchFieldException e) {
+            throw Oops.of(e);
+        }
+    }
+
+    /*
+     * Classe oculta no pacote da interface, ou null quando não é possível defini-la.
+     */
+    private Class<?> defineHidden(Class<?> type) {
+        if (defineHiddenClass == null)
+            return null;
+        try {
+            Lookup lookup = (Lookup) privateLookupIn.invoke(type, MethodHandles.lookup());
+            byte[] bytes = new ClassWriter(internalName(type) + "$Mock", type, methods).write();
+            return ((Lookup) defineHiddenClass.invoke(lookup, bytes, true, noOptions)).lookupClass();
+        } catch (IllegalAccessException | SecurityException e) {
+            return null;
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new Oops(e.getMessage(), e);
+        }
+    }
+
+    static MockGenerator of(Class<?> type) {
+        return generators.get(type);
+    }
+
+    /*
+     * Cria nova instância da classe gerada. A função retorna, para cada método, o valor do campo "v<i>" ou a
+     * Function do campo "h<i>".
+     */
+    Object newInstance(Function<Method, Object> fieldValue) {
+        try {
+            Object instance = mockClass.getConstructor().newInstance();
+            for (int index = 0; index < methods.length; index++)
+                if (fields[index] != null)
+                    fields[index].set(instance, fieldValue.apply(methods[index]));
+            return instance;
+        } catch (ReflectiveOperationException e) {
+            throw Oops.of(e);
+        }
+    }
+
+    private static String fieldName(Method method, int index) {
+        return (method.getParameterCount() == 0 ? "v" : "h") + index;
+    }
+
+    private static boolean isSupported(Class<?> type) {
+        if (!type.isInterface() || !isPublic(type))
+            return false;
+        for (Method method : methods(type)) {
+            if (!isPublic(method.getReturnType()))
+                return false;
+            for (Class<?> parameter : method.getParameterTypes())
+                if (!isPublic(parameter))
+                    return false;
+        }
+        return true;
+    }
+
+    private static boolean isPublic(Class<?> type) {
+        while (type.isArray())
+            type = type.getComponentType();
+        return type.isPrimitive() || Modifier.isPublic(type.getModifiers());
+    }
+
+    private static Method[] methods(Class<?> type) {
+        List<Method> methods = new ArrayList<>();
+        Set<String> descriptors = new HashSet<>();
+        for (Method method : type.getMethods())
+            if (!Modifier.isStatic(method.getModifiers())
+                    && !isObjectMethod(method)
+                    && descriptors.add(method.getName() + descriptor(method)))
+                methods.add(method);
+        return methods.toArray(new Method[0]);
+    }
+
+    private static boolean isObjectMethod(Method method) {
+        try {
+            Object.class.getMethod(method.getName(), method.getParameterTypes());
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static String descriptor(Method method) {
+        StringBuilder descriptor = new StringBuilder("(");
+        for (Class<?> parameter : method.getParameterTypes())
+            descriptor.append(descriptor(parameter));
+        return descriptor.append(')').append(descriptor(method.getReturnType())).toString();
+    }
+
+    private static String descriptor(Class<?> type) {
+        if (type == void.class) return "V";
+        if (type == boolean.class) return "Z";
+        if (type == char.class) return "C";
+        if (type == byte.class) return "B";
+        if (type == short.class) return "S";
+        if (type == int.class) return "I";
+        if (type == long.class) return "J";
+        if (type == float.class) return "F";
+        if (type == double.class) return "D";
+        if (type.isArray()) return internalName(type);
+        return "L" + internalName(type) + ";";
+    }
+
+    private static String internalName(Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+
+    private static Class<?> wrapper(Class<?> type) {
+        if (type == boolean.class) return Boolean.class;
+        if (type == char.class) return Character.class;
+        if (type == byte.class) return Byte.class;
+        if (type == short.class) return Short.class;
+        if (type == int.class) return Integer.class;
+        if (type == long.class) return Long.class;
+        if (type == float.class) return Float.class;
+        return Double.class;
+    }
+
+    private static int slots(Class<?> type) {
+        return type == long.class || type == double.class ? 2 : 1;
+    }
+
+    private static final class Loader extends ClassLoader {
+
+        Loader(ClassLoader parent) {
+            super(parent);
+        }
+
+        Class<?> define(String name, byte[] bytes) {
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+
+    /*
+     * Escrita mínima do formato class (versão 52) com o necessário para a classe do mock.
+     */
+    private static final class ClassWriter {
+
+        static final int ACC_PUBLIC = 0x0001;
+
+        static final int ACC_FINAL = 0x0010;
+
+        static final int ACC_SUPER = 0x0020;
+
+        static final int ACC_SYNTHETIC = 0x1000;
+
+        static final int ALOAD_0 = 0x2a, ICONST_0 = 0x03, BIPUSH = 0x10, SIPUSH = 0x11, DUP = 0x59, AASTORE = 0x53,
+                ANEWARRAY = 0xbd, CHECKCAST = 0xc0, GETFIELD = 0xb4, INVOKEVIRTUAL = 0xb6, INVOKESPECIAL = 0xb7,
+                INVOKESTATIC = 0xb8, INVOKEINTERFACE = 0xb9, RETURN = 0xb1, ARETURN = 0xb0, IRETURN = 0xac,
+                LRETURN = 0xad, FRETURN = 0xae, DRETURN = 0xaf, ILOAD = 0x15, LLOAD = 0x16, FLOAD = 0x17,
+                DLOAD = 0x18, ALOAD = 0x19;
+
+        final String name;
+
+        final Class<?> type;
+
+        final Method[] methods;
+
+        final Map<String, Integer> pool = new HashMap<>();
+
+        final ByteArrayOutputStream poolBytes = new ByteArrayOutputStream();
+
+        final DataOutputStream poolOut = new DataOutputStream(poolBytes);
+
+        int poolCount = 1;
+
+        ClassWriter(String name, Class<?> type, Method[] methods) {
+            this.name = name;
+            this.type = type;
+            this.methods = methods;
+        }
+
+        byte[] write() {
+            try {
+                ByteArrayOutputStream body = new ByteArrayOutputStream();
+                DataOutputStream out = new DataOutputStream(body);
+                int thisClass = classRef(name);
+                int superClass = classRef("java/lang/Object");
+                int interfaceClass = classRef(internalName(type));
+                int fieldCount = 0;
+                for (Method method : methods)
+                    if (method.getReturnType() != void.class)
+                        fieldCount++;
+                out.writeShort(fieldCount);
+                for (int index = 0; index < methods.length; index++) {
+                    Method method = methods[index];
+                    if (method.getReturnType() == void.class)
+                        continue;
+                    out.writeShort(ACC_PUBLIC);
+                    out.writeShort(utf8(fieldName(method, index)));
+                    out.writeShort(utf8(fieldDescriptor(method)));
+                    out.writeShort(0);
+                }
+                out.writeShort(methods.length + 1);
+                writeMethod(out, "<init>", "()V", constructor(), 1, 1);
+                for (int index = 0; index < methods.length; index++)
+                    writeMethod(out, methods[index], index);
+                out.writeShort(0);
+
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                DataOutputStream classOut = new DataOutputStream(bytes);
+                classOut.writeInt(0xCAFEBABE);
+                classOut.writeShort(0);
+                classOut.writeShort(52);
+                classOut.writeShort(poolCount);
+                poolOut.flush();
+                poolBytes.writeTo(classOut);
+                classOut.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC);
+                classOut.writeShort(thisClass);
+                classOut.writeShort(superClass);
+                classOut.writeShort(1);
+                classOut.writeShort(interfaceClass);
+                out.flush();
+                body.writeTo(classOut);
+                classOut.flush();
+                return bytes.toByteArray();
+            } catch (IOException e) {
+                throw Oops.of(e);
+            }
+        }
+
+        String fieldDescriptor(Method method) {
+            return method.getParameterCount() == 0 ? descriptor(method.getReturnType()) : "L" + FUNCTION + ";";
+        }
+
+        byte[] constructor() throws IOException {
+            Code code = new Code();
+            code.op(ALOAD_0);
+            code.op(INVOKESPECIAL).u2(methodRef("java/lang/Object", "<init>", "()V"));
+            code.op(RETURN);
+            return code.toByteArray();
+        }
+
+        void writeMethod(DataOutputStream out, Method method, int index) throws IOException {
+            Class<?> returnType = method.getReturnType();
+            Class<?>[] parameters = method.getParameterTypes();
+            int locals = 1;
+            for (Class<?> parameter : parameters)
+                locals += slots(parameter);
+            Code code = new Code();
+            if (returnType == void.class)
+                code.op(RETURN);
+            else if (parameters.length == 0) {
+                code.op(ALOAD_0).op(GETFIELD).u2(fieldRef(name, "v" + index, descriptor(returnType)));
+                code.op(returnOpcode(returnType));
+            } else {
+                code.op(ALOAD_0).op(GETFIELD).u2(fieldRef(name, "h" + index, "L" + FUNCTION + ";"));
+                if (parameters.length == 1)
+                    load(code, parameters[0], 1);
+                else {
+                    push(code, parameters.length);
+                    code.op(ANEWARRAY).u2(classRef("java/lang/Object"));
+                    for (int parameter = 0, slot = 1; parameter < parameters.length; parameter++) {
+                        code.op(DUP);
+                        push(code, parameter);
+                        load(code, parameters[parameter], slot);
+                        code.op(AASTORE);
+                        slot += slots(parameters[parameter]);
+                    }
+                }
+                code.op(INVOKEINTERFACE).u2(interfaceMethodRef(FUNCTION, "apply",
+                        "(Ljava/lang/Object;)Ljava/lang/Object;")).u1(2).u1(0);
+                if (returnType.isPrimitive()) {
+                    String wrapper = internalName(wrapper(returnType));
+                    code.op(CHECKCAST).u2(classRef(wrapper));
+                    code.op(INVOKEVIRTUAL).u2(methodRef(wrapper, returnType.getName() + "Value",
+                            "()" + descriptor(returnType)));
+                } else if (returnType != Object.class)
+                    code.op(CHECKCAST).u2(classRef(internalName(returnType)));
+                code.op(returnOpcode(returnType));
+            }
+            writeMethod(out, method.getName(), descriptor(method), code.toByteArray(), 6, locals);
+        }
+
+        void writeMethod(DataOutputStream out, String name, String descriptor, byte[] code, int stack, int locals)
+                throws IOException {
+            out.writeShort(ACC_PUBLIC);
+            out.writeShort(utf8(name));
+            out.writeShort(utf8(descriptor));
+            out.writeShort(1);
+            out.writeShort(utf8("Code"));
+            out.writeInt(12 + code.length);
+            out.writeShort(stack);
+            out.writeShort(locals);
+            out.writeInt(code.length);
+            out.write(code);
+            out.writeShort(0);
+            out.writeShort(0);
+        }
+
+        void load(Code code, Class<?> type, int slot) {
+            code.op(loadOpcode(type)).u1(slot);
+            if (type.isPrimitive()) {
+                String wrapper = internalName(wrapper(type));
+                code.op(INVOKESTATIC).u2(methodRef(wrapper, "valueOf",
+                        "(" + descriptor(type) + ")L" + wrapper + ";"));
+            }
+        }
+
+        void push(Code code, int value) {
+            if (value <= 5)
+                code.op(ICONST_0 + value);
+            else if (value <= Byte.MAX_VALUE)
+                code.op(BIPUSH).u1(value);
+            else
+                code.op(SIPUSH).u2(value);
+        }
+
+        int loadOpcode(Class<?> type) {
+            if (type == long.class) return LLOAD;
+            if (type == float.class) return FLOAD;
+            if (type == double.class) return DLOAD;
+            return type.isPrimitive() ? ILOAD : ALOAD;
+        }
+
+        int returnOpcode(Class<?> type) {
+            if (type == long.class) return LRETURN;
+            if (type == float.class) return FRETURN;
+            if (type == double.class) return DRETURN;
+            return type.isPrimitive() ? IRETURN : ARETURN;
+        }
+
+        int utf8(String value) {
+            return constant("1|" + value, out -> {
+                out.writeByte(1);
+                out.writeUTF(value);
+            });
+        }
+
+        int classRef(String internalName) {
+            int utf8 = utf8(internalName);
+            return constant("7|" + internalName, out -> {
+                out.writeByte(7);
+                out.writeShort(utf8);
+            });
+        }
+
+        int nameAndType(String name, String descriptor) {
+            int nameIndex = utf8(name);
+            int descriptorIndex = utf8(descriptor);
+            return constant("12|" + name + ':' + descriptor, out -> {
+                out.writeByte(12);
+                out.writeShort(nameIndex);
+                out.writeShort(descriptorIndex);
+            });
+        }
+
+        int fieldRef(String owner, String name, String descriptor) {
+            return memberRef(9, owner, name, descriptor);
+        }
+
+        int methodRef(String owner, String name, String descriptor) {
+            return memberRef(10, owner, name, descriptor);
+        }
+
+        int interfaceMethodRef(String owner, String name, String descriptor) {
+            return memberRef(11, owner, name, descriptor);
+        }
+
+        int memberRef(int tag, String owner, String name, String descriptor) {
+            int classIndex = classRef(owner);
+            int nameAndTypeIndex = nameAndType(name, descriptor);
+            return constant(tag + "|" + owner + '.' + name + ':' + descriptor, out -> {
+                out.writeByte(tag);
+                out.writeShort(classIndex);
+                out.writeShort(nameAndTypeIndex);
+            });
+        }
+
+        int constant(String key, Entry entry) {
+            Integer index = pool.get(key);
+            if (index == null) {
+                try {
+                    entry.write(poolOut);
+                } catch (IOException e) {
+                    throw Oops.of(e);
+                }
+                index = poolCount++;
+                pool.put(key, index);
+            }
+            return index;
+        }
+
+        interface Entry {
+            void write(DataOutputStream out) throws IOException;
+        }
+    }
+
+    private static final class Code extends ByteArrayOutputStream {
+
+        Code op(int opcode) {
+            write(opcode);
+            return this;
+        }
+
+        Code u1(int value) {
+            write(value);
+            return this;
+        }
+
+        Code u2(int value) {
+            write(value >>> 8);
+            write(value);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.github.ducoral.jutils;
+
+import com.github.ducoral.jutils.Scanner.Token;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+import static com.github.ducoral.jutils.Constants.Strings.NDJSON_LINE_BREAK;
+
+/**
+ * Leitura e gravação de arquivos JSON delimitados por linhas (NDJSON), com um valor JSON por linha, conforme
+ * {@link Core#json(Object)} e {@link Core#parseJson(String)}.
+ */
+public final class NDJSON {
+
+    private static final int BATCH_SIZE = 1 << 20;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Gravação de registros em NDJSON, um por linha, através de um buffer.
+     */
+    public static final class Writer implements Closeable, Flushable {
+
+        private final java.io.Writer output;
+
+        private long count;
+
+        private Writer(OutputStream output) {
+            this.output = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE);
+        }
+
+        /**
+         * Grava o registro, convertido conforme {@link Core#json(Object)}, seguido de quebra de linha.
+         *
+         * @param record registro a ser gravado.
+         * @return o próprio {@link Writer}.
+         * @throws Oops se o JSON do registro contiver quebra de linha, o que ocorre quando alguma <i>string</i>
+         *              do registro a contém.
+         */
+        public Writer write(Object record) {
+            String json = Core.json(record);
+            count++;
+            if (json.indexOf('\n') >= 0)
+                throw Oops.of(NDJSON_LINE_BREAK, count);
+            try {
+                output.write(json);
+                output.write('\n');
+            } catch (IOException e) {
+                throw Oops.of(e);
+            }
+            return this;
+        }
+
+        public void flush() {
+            try {
+                output.flush();
+            } catch (IOException e) {
+                throw Oops.of(e);
+            }
+        }
+
+        public void close() {
+            try {
+                output.close();
+            } catch (IOException e) {
+                throw Oops.of(e);
+            }
+        }
+    }
+
+    /**
+     * Retorna novo {@link Writer} que grava em <code>output</code>. Fechar o {@link Writer} fecha também
+     * <code>output</code>.
+     *
+     * @param output {@link OutputStream} de destino.
+     * @return novo {@link Writer}.
+     */
+    public static Writer writer(OutputStream output) {
+        return new Writer(output);
+    }
+
+    /**
+     * Grava os registros no arquivo, criando-o ou sobrescrevendo-o, um por linha.
+     *
+     * @param file caminho do arquivo.
+     * @param records registros a serem gravados, na ordem.
+     */
+    public static void write(Path file, Iterable<?> records) {
+        try (Writer writer = writer(Files.newOutputStream(file))) {
+            for (Object record : records)
+                writer.write(record);
+        } catch (IOException e) {
+            throw Oops.of(e);
+        }
+    }
+
+    /**
+     * Lê todos os registros do arquivo NDJSON, na ordem, conforme {@link #read(Path, Consumer, boolean)}.
+     *
+     * @param file caminho do arquivo.
+     * @return lista com os registros, na ordem do arquivo.
+     */
+    public static List<Object> read(Path file) {
+        List<Object> records = new ArrayList<>();
+        read(file, records::add, true);
+        return records;
+    }
+
+    /**
+     * Lê os registros do arquivo NDJSON, entregando-os ao consumidor na ordem do arquivo, conforme
+     * {@link #read(Path, Consumer, boolean)}.
+     *
+     * @param file caminho do arquivo.
+     * @param consumer consumidor dos registros.
+     */
+    public static void read(Path file, Consumer<Object> consumer) {
+        read(file, consumer, true);
+    }
+
+    /**
+     * Lê os registros do arquivo NDJSON, mapeado em memória, entregando-os ao consumidor. Linhas em branco são
+     * ignoradas.
+     * <br/><br/>
+     * O arquivo é dividido em lotes de linhas de aproximadamente 1 MB, e cada lote é lido no
+     * {@link ForkJoinPool} comum: as quebras de linha são localizadas por busca de bytes, 8 por vez, e cada linha
+     * é lida conforme {@link Core#parseJson(java.nio.ByteBuffer)}. A quantidade de lotes em leitura simultânea é
+     * limitada ao dobro do paralelismo do {@link ForkJoinPool} comum, para limitar o uso de memória em arquivos
+     * grandes.
+     *
+     * @param file caminho do arquivo.
+     * @param consumer consumidor dos registros.
+     * @param ordered se <code>true</code>, os registros são entregues na <i>thread</i> corrente, na ordem do
+     *                arquivo. Caso contrário, são entregues assim que lidos, nas <i>threads</i> do
+     *                {@link ForkJoinPool} comum, devendo o consumidor ser seguro para uso concorrente.
+     * @throws Oops se alguma linha não for um documento JSON válido.
+     */
+    public static void read(Path file, Consumer<Object> consumer, boolean ordered) {
+        Chunks chunks = new Chunks(NIO.map(file, Core.JSON_CHUNK_SIZE));
+        int window = 2 * ForkJoinPool.getCommonPoolParallelism();
+        Deque<CompletableFuture<List<Object>>> batches = new ArrayDeque<>();
+        try {
+            long start = 0;
+            while (start < chunks.length) {
+                long end = chunks.indexOf('\n', Math.min(start + BATCH_SIZE, chunks.length), chunks.length);
+                end = end < 0 ? chunks.length : end + 1;
+                long from = start;
+                long to = end;
+                batches.add(CompletableFuture.supplyAsync(() -> {
+                    if (!ordered) {
+                        decode(chunks.copy(), from, to, consumer);
+                        return Collections.emptyList();
+                    }
+                    List<Object> records = new ArrayList<>();
+                    decode(chunks.copy(), from, to, records::add);
+                    return records;
+                }));
+                if (batches.size() >= window)
+                    join(batches.poll()).forEach(consumer);
+                start = end;
+            }
+            while (!batches.isEmpty())
+                join(batches.poll()).forEach(consumer);
+        } finally {
+            batches.forEach(batch -> batch.cancel(false));
+        }
+    }
+
+    private static void decode(Chunks chunks, long from, long to, Consumer<Object> consumer) {
+        long start = from;
+        while (start < to) {
+            long end = chunks.indexOf('\n', start, to);
+            if (end < 0)
+                end = to;
+            ByteScanner scanner = new ByteScanner(chunks, start, end);
+            if (scanner.token() != Token.EOF)
+                consumer.accept(new JsonParser(scanner).parse());
+            start = end + 1;
+        }
+    }
+
+    private static List<Object> join(CompletableFuture<List<Object>> batch) {
+        try {
+            return batch.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+
+    private NDJSON() {
+    }
+}
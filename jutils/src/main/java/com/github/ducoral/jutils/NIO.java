@@ -0,0 +1,235 @@
+package com.github.ducoral.jutils;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channel;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static com.github.ducoral.jutils.Constants.Strings.FILE_TOO_LARGE;
+import static com.github.ducoral.jutils.Constants.Strings.NIO_CHANNEL_NOT_BLOCKING;
+import static com.github.ducoral.jutils.Constants.Strings.NIO_INVALID_CHUNK_SIZE;
+
+/**
+ * Utilitários de leitura e cópia de arquivos e streams via <code>java.nio</code>, complementares a
+ * {@link Core#bytes(InputStream)} e {@link Core#stream(byte[])}, que evitam cópias intermediárias dos dados.
+ */
+public final class NIO {
+
+    /**
+     * Lê todo o conteúdo do arquivo em um {@link ByteBuffer} alocado uma única vez com o tamanho do arquivo.
+     *
+     * @param path caminho do arquivo.
+     * @return {@link ByteBuffer} com o conteúdo do arquivo, com <code>position</code> 0 e <code>limit</code>
+     * igual ao tamanho do arquivo.
+     */
+    public static ByteBuffer read(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE)
+                throw Oops.of(FILE_TOO_LARGE, path, size);
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining())
+                if (channel.read(buffer) < 0)
+                    break;
+            ((Buffer) buffer).flip();
+            return buffer;
+        } catch (IOException e) {
+            throw Oops.of(e);
+        }
+    }
+
+    /**
+     * Mapeia o arquivo em memória, somente para leitura, sem copiar o seu conteúdo para o <i>heap</i>. O
+     * mapeamento permanece válido após o retorno, mesmo com o canal do arquivo já fechado.
+     *
+     * @param path caminho do arquivo.
+     * @return {@link MappedByteBuffer} com o conteúdo do arquivo.
+     */
+    public static MappedByteBuffer map(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE)
+                throw Oops.of(FILE_TOO_LARGE, path, size);
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        } catch (IOException e) {
+            throw Oops.of(e);
+        }
+    }
+
+    /**
+     * Mapeia o arquivo em memória, somente para leitura, em janelas consecutivas de <code>chunkSize</code> bytes
+     * (a última possivelmente menor), permitindo mapear arquivos maiores que 2 GB.
+     *
+     * @param path caminho do arquivo.
+     * @param chunkSize tamanho de cada janela, em bytes, maior que zero.
+     * @return <i>array</i> de {@link MappedByteBuffer} com as janelas do arquivo, na ordem.
+     * @throws Oops se <code>chunkSize</code> não for maior que zero.
+     */
+    public static MappedByteBuffer[] map(Path path, int chunkSize) {
+        if (chunkSize <= 0)
+            throw Oops.of(NIO_INVALID_CHUNK_SIZE, chunkSize);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            MappedByteBuffer[] chunks = new MappedByteBuffer[(int) ((size + chunkSize - 1) / chunkSize)];
+            for (int index = 0; index < chunks.length; index++) {
+                long position = (long) index * chunkSize;
+                chunks[index] = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(chunkSize, size - position));
+            }
+            return chunks;
+        } catch (IOException e) {
+            throw Oops.of(e);
+        }
+    }
+
+    /**
+     * Lê exatamente <code>length</code> bytes de <code>input</code> em um <i>array</i> alocado uma única vez.
+     *
+     * @param input {@link InputStream} de origem.
+     * @param length quantidade de bytes a ler.
+     * @return <i>array</i> com os bytes lidos.
+     */
+    public static byte[] bytes(InputStream input, int length) {
+        try {
+            byte[] bytes = new byte[length];
+            int offset = 0;
+            while (offset < length) {
+                int read = input.read(bytes, offset, length - offset);
+                if (read < 0)
+                    throw new EOFException();
+                offset += read;
+            }
+            return bytes;
+        } catch (IOException e) {
+            throw Oops.of(e);
+        }
+    }
+
+    /**
+     * Transfere todo o conteúdo de <code>source</code>, a partir da sua posição atual, para <code>target</code>
+     * via {@link FileChannel#transferTo(long, long, WritableByteChannel)}, que permite ao sistema operacional
+     * copiar os dados sem passar pelo <i>heap</i>.
+     * <br/><br/>
+     * O canal de destino deve estar em modo bloqueante. A transferência termina ao fim do conteúdo de
+     * <code>source</code>, conforme o seu tamanho no início da chamada, ou antes, quando nenhum byte é transferido,
+     * como ocorre se o arquivo for truncado durante a transferência. Em todos os casos, a posição de
+     * <code>source</code> fica após os bytes transferidos.
+     *
+     * @param source canal de origem.
+     * @param target canal de destino, em modo bloqueante.
+     * @return quantidade de bytes transferidos.
+     * @throws Oops se <code>target</code> estiver em modo não bloqueante.
+     */
+    public static long transfer(FileChannel source, WritableByteChannel target) {
+        requireBlocking(target);
+        try {
+            long position = source.position();
+            long size = source.size();
+            while (position < size) {
+                long transferred = source.transferTo(position, size - position, target);
+                if (transferred <= 0)
+                    break;
+                position += transferred;
+            }
+            long transferred = position - source.position();
+            source.position(position);
+            return transferred;
+        } catch (IOException e) {
+            throw Oops.of(e);
+        }
+    }
+
+    /**
+     * Recebe em <code>target</code>, a partir da sua posição atual, todo o conteúdo de <code>source</code> via
+     * {@link FileChannel#transferFrom(ReadableByteChannel, long, long)}, até o fim do conteúdo de
+     * <code>source</code>.
+     * <br/><br/>
+     * O canal de origem deve estar em modo bloqueante, já que, em modo não bloqueante, uma leitura sem bytes não
+     * distingue o fim do conteúdo da simples ausência momentânea de dados.
+     *
+     * @param source canal de origem, em modo bloqueante.
+     * @param target canal de destino.
+     * @return quantidade de bytes transferidos.
+     * @throws Oops se <code>source</code> estiver em modo não bloqueante.
+     */
+    public static long receive(ReadableByteChannel source, FileChannel target) {
+        requireBlocking(source);
+        try {
+            long position = target.position();
+            long start = position;
+            long transferred;
+            while ((transferred = target.transferFrom(source, position, 1 << 20)) > 0)
+                position += transferred;
+            target.position(position);
+            return position - start;
+        } catch (IOException e) {
+            throw Oops.of(e);
+        }
+    }
+
+    /**
+     * Copia o arquivo <code>source</code> para <code>target</code>, criando ou sobrescrevendo o arquivo de
+     * destino, via {@link #transfer(FileChannel, WritableByteChannel)}.
+     *
+     * @param source caminho do arquivo de origem.
+     * @param target caminho do arquivo de destino.
+     * @return quantidade de bytes copiados.
+     */
+    public static long copy(Path source, Path target) {
+        try (FileChannel from = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel to = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            return transfer(from, to);
+        } catch (IOException e) {
+            throw Oops.of(e);
+        }
+    }
+
+    /**
+     * Retorna {@link InputStream} que lê diretamente os bytes restantes de <code>buffer</code>, sem copiá-los,
+     * para uso com APIs baseadas em streams, como {@link XML#root(InputStream)}. A posição do buffer original não
+     * é alterada.
+     *
+     * @param buffer {@link ByteBuffer} de origem.
+     * @return {@link InputStream} sobre o conteúdo do buffer.
+     */
+    public static InputStream stream(ByteBuffer buffer) {
+        ByteBuffer source = buffer.duplicate();
+        return new InputStream() {
+            public int read() {
+                return source.hasRemaining() ? source.get() & 0xFF : -1;
+            }
+
+            public int read(byte[] bytes, int offset, int length) {
+                if (length == 0)
+                    return 0;
+                if (!source.hasRemaining())
+                    return -1;
+                int count = Math.min(length, source.remaining());
+                source.get(bytes, offset, count);
+                return count;
+            }
+
+            public int available() {
+                return source.remaining();
+            }
+        };
+    }
+
+    private static void requireBlocking(Channel channel) {
+        if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking())
+            throw Oops.of(NIO_CHANNEL_NOT_BLOCKING, channel);
+    }
+
+    private NIO() {
+    }
+}
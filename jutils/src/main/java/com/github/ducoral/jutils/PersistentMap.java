@@ -0,0 +1,261 @@
+package com.github.ducoral.jutils;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/*
+ * Map imutável de chaves String implementado como Hash Array Mapped Trie (HAMT).
+ *
+ * As operações plus e plusAll retornam nova instância compartilhando com a original todos os nós não afetados,
+ * de forma que cada inclusão copia apenas O(log32 n) nós. Os métodos de alteração herdados de Map lançam
+ * UnsupportedOperationException. Chaves nulas não são suportadas.
+ */
+final class PersistentMap extends AbstractMap<String, Object> {
+
+    static final PersistentMap EMPTY = new PersistentMap(new BitmapNode(0, new Object[0]), 0);
+
+    private static final Object NOT_FOUND = new Object();
+
+    private static final int BITS = 5;
+
+    private static final int MAX_DEPTH = 32 / BITS + 2;
+
+    private final Node root;
+
+    private final int size;
+
+    private PersistentMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    static PersistentMap of(Map<String, ?> source) {
+        return source instanceof PersistentMap
+                ? (PersistentMap) source
+                : EMPTY.plusAll(source);
+    }
+
+    PersistentMap plus(String key, Object value) {
+        boolean[] added = new boolean[1];
+        Node node = root.plus(Objects.requireNonNull(key), hash(key), value, 0, added);
+        return node == root ? this : new PersistentMap(node, added[0] ? size + 1 : size);
+    }
+
+    PersistentMap plusAll(Map<String, ?> source) {
+        boolean[] added = new boolean[1];
+        Node node = root;
+        int newSize = size;
+        for (Entry<String, ?> entry : source.entrySet()) {
+            added[0] = false;
+            String key = Objects.requireNonNull(entry.getKey());
+            node = node.plus(key, hash(key), entry.getValue(), 0, added);
+            if (added[0])
+                newSize++;
+        }
+        return node == root ? this : new PersistentMap(node, newSize);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && root.get((String) key, hash((String) key), 0) != NOT_FOUND;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (!(key instanceof String))
+            return null;
+        Object value = root.get((String) key, hash((String) key), 0);
+        return value == NOT_FOUND ? null : value;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            public Iterator<Entry<String, Object>> iterator() {
+                return new EntryIterator(root);
+            }
+
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private static int hash(String key) {
+        int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & 31);
+    }
+
+    /*
+     * Nó da árvore. O array contém pares chave/valor; em BitmapNode, chave nula indica que o valor é um nó filho.
+     */
+    private abstract static class Node {
+
+        final Object[] array;
+
+        Node(Object[] array) {
+            this.array = array;
+        }
+
+        abstract Object get(String key, int hash, int shift);
+
+        abstract Node plus(String key, int hash, Object value, int shift, boolean[] added);
+
+        Object[] with(int index, Object value) {
+            Object[] copy = array.clone();
+            copy[index] = value;
+            return copy;
+        }
+
+        static Node pair(String key1, Object value1, String key2, int hash2, Object value2, int shift) {
+            int hash1 = hash(key1);
+            if (shift >= 32)
+                return new CollisionNode(hash1, new Object[] { key1, value1, key2, value2 });
+            int bit1 = bit(hash1, shift);
+            int bit2 = bit(hash2, shift);
+            if (bit1 == bit2)
+                return new BitmapNode(bit1, new Object[] { null, pair(key1, value1, key2, hash2, value2, shift + BITS) });
+            return new BitmapNode(bit1 | bit2, Integer.compareUnsigned(bit1, bit2) < 0
+                    ? new Object[] { key1, value1, key2, value2 }
+                    : new Object[] { key2, value2, key1, value1 });
+        }
+    }
+
+    private static final class BitmapNode extends Node {
+
+        final int bitmap;
+
+        BitmapNode(int bitmap, Object[] array) {
+            super(array);
+            this.bitmap = bitmap;
+        }
+
+        Object get(String key, int hash, int shift) {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0)
+                return NOT_FOUND;
+            int index = 2 * Integer.bitCount(bitmap & (bit - 1));
+            Object current = array[index];
+            if (current == null)
+                return ((Node) array[index + 1]).get(key, hash, shift + BITS);
+            return key.equals(current) ? array[index + 1] : NOT_FOUND;
+        }
+
+        Node plus(String key, int hash, Object value, int shift, boolean[] added) {
+            int bit = bit(hash, shift);
+            int index = 2 * Integer.bitCount(bitmap & (bit - 1));
+            if ((bitmap & bit) == 0) {
+                Object[] copy = new Object[array.length + 2];
+                System.arraycopy(array, 0, copy, 0, index);
+                copy[index] = key;
+                copy[index + 1] = value;
+                System.arraycopy(array, index, copy, index + 2, array.length - index);
+                added[0] = true;
+                return new BitmapNode(bitmap | bit, copy);
+            }
+            Object current = array[index];
+            if (current == null) {
+                Node child = (Node) array[index + 1];
+                Node node = child.plus(key, hash, value, shift + BITS, added);
+                return node == child ? this : new BitmapNode(bitmap, with(index + 1, node));
+            }
+            if (key.equals(current))
+                return array[index + 1] == value ? this : new BitmapNode(bitmap, with(index + 1, value));
+            added[0] = true;
+            Object[] copy = with(index, null);
+            copy[index + 1] = pair((String) current, array[index + 1], key, hash, value, shift + BITS);
+            return new BitmapNode(bitmap, copy);
+        }
+    }
+
+    private static final class CollisionNode extends Node {
+
+        final int hash;
+
+        CollisionNode(int hash, Object[] array) {
+            super(array);
+            this.hash = hash;
+        }
+
+        Object get(String key, int hash, int shift) {
+            for (int index = 0; index < array.length; index += 2)
+                if (key.equals(array[index]))
+                    return array[index + 1];
+            return NOT_FOUND;
+        }
+
+        Node plus(String key, int hash, Object value, int shift, boolean[] added) {
+            for (int index = 0; index < array.length; index += 2)
+                if (key.equals(array[index]))
+                    return array[index + 1] == value ? this : new CollisionNode(hash, with(index + 1, value));
+            Object[] copy = new Object[array.length + 2];
+            System.arraycopy(array, 0, copy, 0, array.length);
+            copy[array.length] = key;
+            copy[array.length + 1] = value;
+            added[0] = true;
+            return new CollisionNode(hash, copy);
+        }
+    }
+
+    private static final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        final Node[] nodes = new Node[MAX_DEPTH];
+
+        final int[] positions = new int[MAX_DEPTH];
+
+        int depth = 0;
+
+        Entry<String, Object> next;
+
+        EntryIterator(Node root) {
+            nodes[0] = root;
+            next = advance();
+        }
+
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        public Entry<String, Object> next() {
+            if (next == null)
+                throw new NoSuchElementException();
+            Entry<String, Object> entry = next;
+            next = advance();
+            return entry;
+        }
+
+        private Entry<String, Object> advance() {
+            while (depth >= 0) {
+                Node node = nodes[depth];
+                int position = positions[depth];
+                if (position >= node.array.length) {
+                    depth--;
+                    continue;
+                }
+                positions[depth] = position + 2;
+                Object key = node.array[position];
+                if (key == null) {
+                    depth++;
+                    nodes[depth] = (Node) node.array[position + 1];
+                    positions[depth] = 0;
+                } else
+                    return new SimpleImmutableEntry<>((String) key, node.array[position + 1]);
+            }
+            return null;
+        }
+    }
+}
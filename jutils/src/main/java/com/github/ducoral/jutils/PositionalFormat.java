@@ -0,0 +1,111 @@
+package com.github.ducoral.jutils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.ducoral.jutils.Core.str;
+
+/*
+ * Formatação de templates com parâmetros posicionais no formato %<número>.
+ *
+ * O template é percorrido uma única vez, de forma que %10 é reconhecido como parâmetro 10 (e não como
+ * parâmetro 1 seguido de "0"). Parâmetros sem argumento correspondente permanecem inalterados.
+ */
+final class PositionalFormat {
+
+    private static final int ESTIMATED_ARGUMENT_LENGTH = 16;
+
+    private final String[] literals;
+
+    private final String[] parameters;
+
+    private final int[] positions;
+
+    private final int length;
+
+    private PositionalFormat(String[] literals, String[] parameters, int[] positions, int length) {
+        this.literals = literals;
+        this.parameters = parameters;
+        this.positions = positions;
+        this.length = length;
+    }
+
+    static PositionalFormat parse(String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> parameters = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        int start = 0;
+        int index = template.indexOf('%');
+        while (index > -1) {
+            int end = digits(template, index + 1);
+            int position = end > index + 1 ? position(template, index + 1, end) : -1;
+            if (position > -1) {
+                literals.add(template.substring(start, index));
+                parameters.add(template.substring(index, end));
+                positions.add(position);
+                start = end;
+            }
+            index = template.indexOf('%', end);
+        }
+        literals.add(template.substring(start));
+        int[] positionArray = new int[positions.size()];
+        for (int item = 0; item < positionArray.length; item++)
+            positionArray[item] = positions.get(item);
+        return new PositionalFormat(
+                literals.toArray(new String[0]),
+                parameters.toArray(new String[0]),
+                positionArray,
+                template.length());
+    }
+
+    String apply(Object... args) {
+        if (positions.length == 0)
+            return literals[0];
+        StringBuilder builder = new StringBuilder(length + positions.length * ESTIMATED_ARGUMENT_LENGTH);
+        for (int item = 0; item < positions.length; item++) {
+            builder.append(literals[item]);
+            int position = positions[item];
+            builder.append(position < args.length ? str(args[position]) : parameters[item]);
+        }
+        return builder.append(literals[positions.length]).toString();
+    }
+
+    static String format(String template, Object... args) {
+        int index = template.indexOf('%');
+        if (index < 0 || args.length == 0)
+            return template;
+        StringBuilder builder = new StringBuilder(template.length() + args.length * ESTIMATED_ARGUMENT_LENGTH);
+        int start = 0;
+        while (index > -1) {
+            int end = digits(template, index + 1);
+            int position = end > index + 1 ? position(template, index + 1, end) : -1;
+            if (position > -1 && position < args.length) {
+                builder.append(template, start, index).append(str(args[position]));
+                start = end;
+            }
+            index = template.indexOf('%', end);
+        }
+        return builder.append(template, start, template.length()).toString();
+    }
+
+    private static int digits(String template, int from) {
+        int index = from;
+        while (index < template.length() && isDigit(template.charAt(index)))
+            index++;
+        return index;
+    }
+
+    private static int position(String template, int start, int end) {
+        int position = 0;
+        for (int index = start; index < end; index++) {
+            position = position * 10 + template.charAt(index) - '0';
+            if (position < 0)
+                return -1;
+        }
+        return position;
+    }
+
+    private static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+}
@@ -0,0 +1,180 @@
+package com.github.ducoral.jutils;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/*
+ * Visão de um Map com as chaves renomeadas por uma função, avaliada sob demanda.
+ *
+ * A tabela de renomeação (chave original para chave renomeada, e vice-versa) pertence à visão, exceto quando a
+ * função é uma Renaming, criada via Core.renaming, caso em que a tabela é a da própria função e é compartilhada
+ * apenas pelas visões criadas com ela, de forma que, ao renomear as colunas de várias linhas, a função é aplicada
+ * uma única vez por chave distinta. Qualquer alteração na visão (put, remove, etc.) materializa as entradas
+ * renomeadas em um HashMap próprio, sem alterar o Map de origem.
+ *
+ * Na primeira consulta, todas as chaves do Map de origem são renomeadas, e a visão só responde a partir do Map de
+ * origem se a tabela leva cada chave renomeada de volta à sua chave original. Caso contrário (duas chaves que
+ * resultam na mesma chave renomeada, nesta ou em outra visão que compartilha a tabela, ou tabela com MAX_KEYS
+ * chaves), a visão é materializada, prevalecendo a última entrada na ordem de iteração do Map de origem. A decisão é
+ * tomada uma única vez por visão e não é alterada por visões criadas depois.
+ *
+ * Assim como um HashMap, a visão pode ser consultada por várias threads, desde que o Map de origem não seja
+ * alterado e nenhuma delas altere a visão: materialized e scanned são voláteis, e o HashMap materializado é
+ * publicado já completo, uma única vez, sob o monitor da visão.
+ */
+final class RenamedMap extends AbstractMap<String, Object> {
+
+    private static final int MAX_KEYS = 4096;
+
+    private final Map<String, Object> source;
+
+    private final Renaming renaming;
+
+    private volatile Map<String, Object> materialized;
+
+    private volatile boolean scanned;
+
+    RenamedMap(Map<String, Object> source, UnaryOperator<String> function) {
+        this.source = source;
+        this.renaming = function instanceof Renaming ? (Renaming) function : new Renaming(function);
+    }
+
+    @Override
+    public int size() {
+        return isView() ? source.size() : materialized.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return isView() ? original(key) != null : materialized.containsKey(key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (isView()) {
+            String original = original(key);
+            return original == null ? null : source.get(original);
+        }
+        return materialized.get(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        return materialize().put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return materialize().remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        materialize().putAll(map);
+    }
+
+    @Override
+    public void clear() {
+        materialize().clear();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (!isView())
+            return materialized.entrySet();
+        return new AbstractSet<Entry<String, Object>>() {
+            public Iterator<Entry<String, Object>> iterator() {
+                Iterator<Entry<String, Object>> iterator = source.entrySet().iterator();
+                return new Iterator<Entry<String, Object>>() {
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    public Entry<String, Object> next() {
+                        Entry<String, Object> entry = iterator.next();
+                        return new SimpleImmutableEntry<>(renaming.rename(entry.getKey()), entry.getValue());
+                    }
+                };
+            }
+
+            public int size() {
+                return RenamedMap.this.size();
+            }
+        };
+    }
+
+    private boolean isView() {
+        if (!scanned)
+            scan();
+        return materialized == null;
+    }
+
+    private void scan() {
+        if (materialized == null) {
+            boolean reversible = true;
+            for (String key : source.keySet()) {
+                String name = renaming.rename(key);
+                if (key == null || name == null || !key.equals(renaming.originals.get(name)))
+                    reversible = false;
+            }
+            if (!reversible)
+                materialize();
+        }
+        scanned = true;
+    }
+
+    private Map<String, Object> materialize() {
+        Map<String, Object> map = materialized;
+        if (map == null)
+            synchronized (this) {
+                map = materialized;
+                if (map == null) {
+                    map = new HashMap<>();
+                    for (Entry<String, Object> entry : source.entrySet())
+                        map.put(renaming.rename(entry.getKey()), entry.getValue());
+                    materialized = map;
+                }
+            }
+        return map;
+    }
+
+    private String original(Object key) {
+        String original = key == null ? null : renaming.originals.get(key);
+        return original != null && source.containsKey(original) ? original : null;
+    }
+
+    static final class Renaming implements UnaryOperator<String> {
+
+        final UnaryOperator<String> function;
+
+        final Map<String, String> renamed = new ConcurrentHashMap<>();
+
+        final Map<Object, String> originals = new ConcurrentHashMap<>();
+
+        Renaming(UnaryOperator<String> function) {
+            this.function = function;
+        }
+
+        public String apply(String key) {
+            return rename(key);
+        }
+
+        String rename(String key) {
+            String name = key == null ? null : renamed.get(key);
+            if (name != null)
+                return name;
+            name = function.apply(key);
+            if (key == null || name == null || renamed.size() >= MAX_KEYS)
+                return name;
+            originals.putIfAbsent(name, key);
+            renamed.putIfAbsent(key, name);
+            return name;
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.github.ducoral.jutils;
+
+import static java.lang.Character.*;
+import static com.github.ducoral.jutils.Core.*;
+import static com.github.ducoral.jutils.Constants.Strings.*;
+
+public class Scanner implements Lexer {
+
+    public enum Token {
+        IDENTIFIER,
+        INTEGER,
+        DECIMAL,
+        STRING,
+        BOOLEAN,
+        OPERATOR,
+        QUESTION_MARK,
+        COMMA,
+        COLON,
+        DOT,
+        OPEN_PARENTHESES,
+        CLOSE_PARENTHESES,
+        OPEN_BRACKETS,
+        CLOSE_BRACKETS,
+        OPEN_BRACES,
+        CLOSE_BRACES,
+        NULL,
+        ERROR,
+        EOF
+    }
+
+    public static final int CHAR_EOF = 0;
+
+    public String expression;
+
+    public int position = 0;
+
+    public Token token = Token.EOF;
+
+    public String lexeme = "";
+
+    public String error = "";
+
+    private static final int ASCII_TABLE_SIZE = 128;
+
+    private static final byte WHITESPACE = 1, DIGIT = 2, LETTER = 4, IDENTIFIER = 8;
+
+    /*
+     * Classes dos caracteres ASCII, para evitar as consultas Unicode de Character nos casos mais comuns.
+     */
+    private static final byte[] ASCII = new byte[ASCII_TABLE_SIZE];
+
+    private static final String[] ASCII_STRINGS = new String[ASCII_TABLE_SIZE];
+
+    static {
+        for (char ch = 0; ch < ASCII_TABLE_SIZE; ch++) {
+            if (ch == '\t' || ch == '\n' || ch == '\r' || isSpaceChar(ch))
+                ASCII[ch] |= WHITESPACE;
+            if (isDigit(ch))
+                ASCII[ch] |= DIGIT | IDENTIFIER;
+            if (isLetter(ch))
+                ASCII[ch] |= LETTER | IDENTIFIER;
+            if (ch == '_')
+                ASCII[ch] |= IDENTIFIER;
+            ASCII_STRINGS[ch] = String.valueOf(ch).intern();
+        }
+    }
+
+    private static final int CACHE_SIZE = 256;
+
+    private static final int CACHED_LENGTH = 32;
+
+    private int end;
+
+    private int start;
+
+    /*
+     * Lexemas curtos já lidos, indexados pelo hash dos seus caracteres, para que chaves e valores que se repetem
+     * entre documentos não sejam alocados novamente. Habilitado apenas em scanners reutilizados via reset.
+     */
+    private String[] cache;
+
+    private StringBuilder builder;
+
+    public Scanner(String expression) {
+        init(expression, 0, expression.length());
+    }
+
+    /*
+     * Reinicia o scanner sobre o trecho [start, end) de uma nova expressão, reaproveitando o cache de lexemas e o
+     * buffer de escapes.
+     */
+    Scanner reset(String expression, int start, int end) {
+        if (cache == null)
+            cache = new String[CACHE_SIZE];
+        return init(expression, start, end);
+    }
+
+    private Scanner init(String expression, int start, int end) {
+        this.expression = expression;
+        this.position = start;
+        this.end = end;
+        scan();
+        return this;
+    }
+
+    public Token token() {
+        return token;
+    }
+
+    public String lexeme() {
+        return lexeme;
+    }
+
+    public void scan() {
+        lexeme = "";
+        error = "";
+
+        skipWhitespace();
+        start = position;
+
+        char current = current();
+        if (current == CHAR_EOF)
+            token = Token.EOF;
+        else if (current == '-' || isDigitChar(current))
+            parseMinusOperatorOrNumber();
+        else if (current == '_' || isLetterChar(current))
+            parseNullBooleanOrIdentifier();
+        else if (current == '\'' || current == '"')
+            parseString();
+        else if (current == '.') {
+            accept();
+            token = Token.DOT;
+            lexeme = ASCII_STRINGS['.'];
+        } else if (isCurrentOneOf("()[]{},?:")) {
+            accept();
+            switch (previous()) {
+                case '(' : token = Token.OPEN_PARENTHESES; break;
+                case ')' : token = Token.CLOSE_PARENTHESES; break;
+                case '[' : token = Token.OPEN_BRACKETS; break;
+                case ']' : token = Token.CLOSE_BRACKETS; break;
+                case '{' : token = Token.OPEN_BRACES; break;
+                case '}' : token = Token.CLOSE_BRACES; break;
+                case ',' : token = Token.COMMA; break;
+                case '?' : token = Token.QUESTION_MARK; break;
+                case ':' : token = Token.COLON; break;
+            }
+            lexeme = ASCII_STRINGS[previous()];
+        } else if (isCurrentOneOf("+*/=!&|><")) {
+            accept();
+            if (previous() == '(')
+                token = Token.OPEN_PARENTHESES;
+            else if (previous() == ')')
+                token = Token.CLOSE_PARENTHESES;
+            else if (previous() == '=' && current() != '=')
+                error(INCORRECT_OPERATOR, "=", "==");
+            else if (previous() == '!' && current() != '=')
+                error(INCORRECT_OPERATOR, "!", "!=");
+            else if (previous() == '&' && current() != '&')
+                error(INCORRECT_OPERATOR, "&", "&&");
+            else if (previous() == '|' && current() != '|')
+                error(INCORRECT_OPERATOR, "|", "||");
+            else {
+                if (isCurrentOneOf("=&|"))
+                    accept();
+                token = Token.OPERATOR;
+            }
+            lexeme = accepted();
+        } else
+            error(INVALID_CHARACTER, current);
+    }
+
+    /*
+     * Espaços em branco entre tokens: os caracteres de espaço Unicode, mais tabulação e quebras de linha.
+     */
+    static boolean isWhitespace(int ch) {
+        return ch >= 0 && ch < ASCII_TABLE_SIZE ? (ASCII[ch] & WHITESPACE) != 0 : isSpaceChar(ch);
+    }
+
+    static boolean isDigitChar(int ch) {
+        return ch >= 0 && ch < ASCII_TABLE_SIZE ? (ASCII[ch] & DIGIT) != 0 : isDigit(ch);
+    }
+
+    static boolean isLetterChar(int ch) {
+        return ch >= 0 && ch < ASCII_TABLE_SIZE ? (ASCII[ch] & LETTER) != 0 : isLetter(ch);
+    }
+
+    static boolean isIdentifierChar(int ch) {
+        return ch >= 0 && ch < ASCII_TABLE_SIZE ? (ASCII[ch] & IDENTIFIER) != 0 : isLetter(ch) || isDigit(ch);
+    }
+
+    private void skipWhitespace() {
+        while (position < end) {
+            char ch = expression.charAt(position);
+            if (ch < ASCII_TABLE_SIZE ? (ASCII[ch] & WHITESPACE) == 0 : !isSpaceChar(ch))
+                break;
+            position++;
+        }
+    }
+
+    private void parseMinusOperatorOrNumber() {
+        accept();
+        if (previous() == '-' && !isDigitChar(current()))
+            token = Token.OPERATOR;
+        else {
+            skipDigits();
+            if (current() == '.') {
+                accept();
+                skipDigits();
+                if (isCurrentOneOf("eE")) {
+                    accept();
+                    if (isCurrentOneOf("-+"))
+                        accept();
+                    if (isDigitChar(current())) {
+                        skipDigits();
+                        token = Token.DECIMAL;
+                    } else
+                        error(INVALID_DECIMAL, accepted());
+                } else
+                    token = Token.DECIMAL;
+            } else
+                token = Token.INTEGER;
+        }
+        lexeme = accepted();
+    }
+
+    private void skipDigits() {
+        while (position < end && isDigitChar(expression.charAt(position)))
+            position++;
+    }
+
+    private void parseNullBooleanOrIdentifier() {
+        while (position < end && isIdentifierChar(expression.charAt(position)))
+            position++;
+        if (isAccepted("null"))
+            token = Token.NULL;
+        else if (isAccepted("true") || isAccepted("false"))
+            token = Token.BOOLEAN;
+        else
+            token = Token.IDENTIFIER;
+        lexeme = accepted();
+    }
+
+    /*
+     * O conteúdo é percorrido até o delimitador, o escape ou o fim. Sem escapes, o lexema é um substring da
+     * expressão; com escapes, o caractere após cada '\\' é copiado literalmente.
+     */
+    private void parseString() {
+        char delimiter = current();
+        next();
+        int content = position;
+        boolean escaped = false;
+        char ch = CHAR_EOF;
+        while (position < end && (ch = expression.charAt(position)) != delimiter && ch != CHAR_EOF) {
+            if (ch == '\\') {
+                escaped = true;
+                position++;
+            }
+            position++;
+        }
+        if (position > end)
+            position = end;
+        lexeme = escaped ? unescape(content, position) : substring(content, position);
+        if (position < end && ch == delimiter) {
+            next();
+            token = Token.STRING;
+        } else
+            error(STRING_NOT_CLOSED, lexeme);
+    }
+
+    private String unescape(int from, int to) {
+        if (builder == null)
+            builder = new StringBuilder(to - from);
+        builder.setLength(0);
+        for (int index = from; index < to; index++) {
+            char ch = expression.charAt(index);
+            if (ch == '\\')
+                ch = ++index < to ? expression.charAt(index) : CHAR_EOF;
+            builder.append(ch);
+        }
+        return builder.toString();
+    }
+
+    private void next() {
+        if (position < end)
+            position++;
+    }
+
+    private void accept() {
+        next();
+    }
+
+    private String accepted() {
+        return substring(start, position);
+    }
+
+    private String substring(int from, int to) {
+        if (cache == null || to - from > CACHED_LENGTH)
+            return expression.substring(from, to);
+        int hash = 0;
+        for (int index = from; index < to; index++)
+            hash = 31 * hash + expression.charAt(index);
+        int slot = (hash ^ (hash >>> 16)) & (CACHE_SIZE - 1);
+        String cached = cache[slot];
+        if (cached != null && cached.length() == to - from && expression.regionMatches(from, cached, 0, to - from))
+            return cached;
+        return cache[slot] = expression.substring(from, to);
+    }
+
+    private boolean isAccepted(String word) {
+        return position - start == word.length() && expression.startsWith(word, start);
+    }
+
+    private boolean isCurrentOneOf(String chars) {
+        return chars.indexOf(current()) > -1;
+    }
+
+    private char current() {
+        return position < end
+                ? expression.charAt(position)
+                : CHAR_EOF;
+    }
+
+    private char previous() {
+        return position > start ? expression.charAt(position - 1) : 0;
+    }
+
+    private void error(String key, Object... args) {
+        token = Token.ERROR;
+        error = property(key, args);
+    }
+}
\ No newline at end of file
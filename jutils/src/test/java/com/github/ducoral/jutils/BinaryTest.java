@@ -0,0 +1,114 @@
+package com.github.ducoral.jutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.ducoral.jutils.Core.map;
+import static com.github.ducoral.jutils.Core.parseJson;
+import static com.github.ducoral.jutils.Core.str;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryTest {
+
+    @Test
+    void testBinary() {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("id", -42L);
+        record.put("big", new BigInteger("123456789012345678901234567890"));
+        record.put("price", new BigDecimal("-1234.5600"));
+        record.put("ratio", 0.25);
+        record.put("name", "Ação ✓");
+        record.put("flags", Arrays.asList(true, false, null));
+        record.put("created", new Date(1_600_000_000_000L));
+        record.put("time", new java.sql.Time(3_600_000L));
+        record.put("day", java.time.LocalDate.of(2020, 2, 29));
+        record.put("nested", Collections.singletonMap("id", 7L));
+
+        Object decoded = Binary.decode(Binary.encode(record));
+        assertEquals(record, decoded);
+        assertEquals(java.sql.Time.class, ((Map<?, ?>) decoded).get("time").getClass());
+        assertEquals(5L, Binary.decode(Binary.encode(5)));
+        assertEquals(5L, Binary.decode(Binary.encode(new BigInteger("5"))));
+        assertEquals(parseJson("{\"a\": [1, 2.5, \"x\"]}").toString(),
+                Binary.decode(Binary.encode(parseJson("{\"a\": [1, 2.5, \"x\"]}"))).toString());
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (Binary.Encoder encoder = Binary.encoder(output)) {
+            for (int index = 0; index < 10_000; index++)
+                encoder.write(record);
+        }
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        try (Binary.Encoder encoder = Binary.encoder(plain, false)) {
+            for (int index = 0; index < 10_000; index++)
+                encoder.write(record);
+        }
+        assertTrue(output.size() < plain.size());
+        for (byte[] bytes : Arrays.asList(output.toByteArray(), plain.toByteArray())) {
+            Binary.Decoder decoder = Binary.decoder(new ByteArrayInputStream(bytes));
+            int count = 0;
+            while (decoder.hasNext()) {
+                assertEquals(record, decoder.read());
+                count++;
+            }
+            assertEquals(10_000, count);
+            Binary.Decoder buffer = Binary.decoder(ByteBuffer.wrap(bytes));
+            assertEquals(record, buffer.read());
+            assertEquals(record, buffer.read());
+        }
+        assertThrows(Oops.class, () -> Binary.decode(new byte[] {3, (byte) 0x80}));
+        assertThrows(Oops.class, () -> Binary.decode(new byte[] {99}));
+
+        java.time.LocalDateTime dateTime = java.time.LocalDateTime.of(2020, 2, 29, 13, 5, 7, 123_456_789);
+        List<Object> temporals = Arrays.asList(dateTime, dateTime.toLocalTime(), dateTime.toInstant(ZoneOffset.UTC),
+                dateTime.atOffset(ZoneOffset.ofHours(-3)), dateTime.toLocalTime().atOffset(ZoneOffset.ofHours(5)),
+                dateTime.atZone(java.time.ZoneId.of("America/Sao_Paulo")));
+        assertEquals(temporals, Binary.decode(Binary.encode(temporals)));
+        assertThrows(Oops.class, () -> Binary.encode(java.time.Duration.ofSeconds(1)));
+    }
+
+    @Test
+    void testBinaryInvalid() {
+        byte[][] corrupt = {
+                {8, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x07},
+                {8, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff,
+                        (byte) 0xff, (byte) 0xff, 0x01},
+                {7, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x07, 'a'},
+                {7, 10, 'a'},
+                {9, 1, 11, 5, 0},
+                {9, 1, 3, 0},
+                {4, 0},
+                {6, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x7f, 1, 1},
+                {14, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff,
+                        (byte) 0xff, 0x7f}};
+        for (byte[] bytes : corrupt) {
+            assertThrows(Oops.class, () -> Binary.decode(bytes));
+            assertThrows(Oops.class, () -> Binary.decoder(new ByteArrayInputStream(bytes)).read());
+        }
+        byte[] nested = new byte[2000];
+        Arrays.fill(nested, (byte) 8);
+        for (int index = 1; index < nested.length; index += 2)
+            nested[index] = 1;
+        assertThrows(Oops.class, () -> Binary.decode(nested));
+
+        byte[] bytes = Binary.encode(map().pair("name", str(20_000, 'x')).pair("list", Arrays.asList(1, 2.5)).done());
+        for (int length = 0; length < bytes.length; length += length < 64 ? 1 : 997) {
+            byte[] truncated = Arrays.copyOf(bytes, length);
+            assertThrows(Oops.class, () -> Binary.decode(truncated));
+            assertThrows(Oops.class, () -> Binary.decoder(new ByteArrayInputStream(truncated)).read());
+        }
+        assertEquals(20_000, ((String) ((Map<?, ?>) Binary.decoder(new ByteArrayInputStream(bytes)).read())
+                .get("name")).length());
+    }
+}
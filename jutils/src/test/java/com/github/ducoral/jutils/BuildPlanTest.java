@@ -0,0 +1,65 @@
+package com.github.ducoral.jutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.github.ducoral.jutils.Core.build;
+import static com.github.ducoral.jutils.Core.buildAll;
+import static com.github.ducoral.jutils.Core.set;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BuildPlanTest {
+
+    static class Row {
+        private int id;
+        private long total;
+        private String name;
+        private double ratio;
+    }
+
+    static class Point {
+        final int x;
+        final int y;
+
+        Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    @Test
+    void testBuild() throws Exception {
+        Row row = build(Row.class, 1, 2L, "a", 0.5);
+        assertEquals(1, row.id);
+        assertEquals(2L, row.total);
+        assertEquals("a", row.name);
+        assertEquals(0.5, row.ratio);
+        row = build(Row.class, 3);
+        assertEquals(3, row.id);
+        assertNull(row.name);
+        assertThrows(Oops.class, () -> build(Row.class, "x"));
+
+        List<Row> rows = buildAll(Row.class, Arrays.asList(new Object[] { 1, 10L, "a" }, new Object[] { 2, 20L, "b" }));
+        assertEquals(2, rows.size());
+        assertEquals(20L, rows.get(1).total);
+        assertEquals("b", rows.get(1).name);
+
+        set(Row.class.getDeclaredField("name"), row, "c");
+        assertEquals("c", row.name);
+
+        Point point = new Point(1, 2);
+        set(Point.class.getDeclaredField("y"), point, 5);
+        assertEquals(5, point.y);
+        assertThrows(Oops.class, () -> build(Point.class, 1, 2));
+    }
+
+    @Test
+    void testBuildInaccessibleFields() {
+        assertEquals(new ArrayList<>(), build(ArrayList.class));
+        assertThrows(Oops.class, () -> build(ArrayList.class, 1));
+        assertEquals(new ArrayList<>(), build(ArrayList.class));
+    }
+}
@@ -0,0 +1,637 @@
+package com.github.ducoral.jutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import static com.github.ducoral.jutils.Core.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoreTest {
+
+    @Test
+    void testFormat() {
+        assertEquals("one and two", format("%0 and %1", "one", "two"));
+        assertEquals("two, one, two", format("%1, %0, %1", "one", "two"));
+        assertEquals("a-k-%11", format("%0-%10-%11", "a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k"));
+        assertEquals("100% of %2", format("%0% of %2", 100, 200));
+        assertEquals("null: ", format("%0: %1", "null", null));
+        assertEquals("%0", format("%0"));
+    }
+
+    @Test
+    void testPositionalFormat() {
+        PositionalFormat format = PositionalFormat.parse("[%0] %10 %1%");
+        assertEquals("[a] %10 b%", format.apply("a", "b"));
+        assertEquals("[] %10 %1%", format.apply(""));
+    }
+
+    @Test
+    void testFill() {
+        assertEquals("ab   ", fill("ab", 5));
+        assertEquals("...ab", fill("ab", 5, Align.RIGHT, '.'));
+        assertEquals("-ab--", fill("ab", 5, Align.CENTER, '-'));
+        assertEquals("abcdef", fill("abcdef", 5));
+        assertEquals("[ab   ][  cd]", fill(fill(new StringBuilder("["), "ab", 5).append("]["), "cd", 4, Align.RIGHT, ' ')
+                .append(']').toString());
+        assertEquals(150, str(150, '*').length());
+        assertEquals(str(150, '*'), str(new StringBuilder(), 150, '*').toString());
+    }
+
+    @Test
+    void testTable() {
+        String expected =
+                "id | name   | total\n" +
+                "---+--------+------\n" +
+                "1  | first  |  10.5\n" +
+                "20 | second |     3\n" +
+                "3  |        |      ";
+        String table = table(
+                Arrays.asList("id", "name", "total"),
+                Arrays.asList(Arrays.asList(1, "first", 10.5), Arrays.asList(20, "second", 3), Collections.singletonList(3)),
+                Align.LEFT, Align.LEFT, Align.RIGHT);
+        assertEquals(expected, table);
+    }
+
+    @Bean(type = ServiceImpl.class)
+    interface Service {
+        Config config();
+    }
+
+    @Singleton
+    static class Config {
+    }
+
+    static class ServiceImpl implements Service {
+        final Config config;
+
+        ServiceImpl(Config config) {
+            this.config = config;
+        }
+
+        public Config config() {
+            return config;
+        }
+    }
+
+    static class Clash {
+    }
+
+    @Bean(type = Api.Impl.class)
+    interface Api {
+
+        @Singleton
+        class Impl implements Api {
+        }
+    }
+
+    static class Cyclic {
+        Cyclic(Cyclic cyclic) {
+        }
+    }
+
+    @Test
+    void testCreate() {
+        Container container = container();
+        Service first = (Service) container.create(Service.class);
+        Service second = (Service) container.create(Service.class);
+        assertNotSame(first, second);
+        assertSame(first.config(), second.config());
+        assertNotSame(first.config(), ((Service) container().create(Service.class)).config());
+        assertThrows(Oops.class, () -> container.create(Cyclic.class));
+        assertThrows(Oops.class, () -> container.create(Runnable.class));
+    }
+
+    @Test
+    void testCreateWithGeneratedFactory() {
+        ContainerImpl container = new ContainerImpl();
+        assertEquals("CoreTest_ServiceImpl_Factory", container.plan(Service.class).factory.getClass().getSimpleName());
+        assertEquals(ContainerImpl.ConstructorFactory.class, container.plan(Client.class).factory.getClass());
+        assertSame(container.create(Config.class), ((Service) container.create(Service.class)).config());
+        assertEquals(Clash.class, container.create(Clash.class).getClass());
+        assertEquals(ContainerImpl.ConstructorFactory.class, container.plan(Clash.class).factory.getClass());
+        assertEquals("CoreTest_Api_Impl_Factory", container.plan(Api.class).factory.getClass().getSimpleName());
+        assertEquals(Api.Impl.class, container.create(Api.class).getClass());
+    }
+
+    @Singleton
+    static class Slow {
+        static final AtomicInteger instances = new AtomicInteger();
+
+        Slow() throws InterruptedException {
+            instances.incrementAndGet();
+            Thread.sleep(50);
+        }
+    }
+
+    @Test
+    void testCreateConcurrently() throws Exception {
+        Container container = container();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Object>> futures = executor.invokeAll(Collections.nCopies(8, () -> container.create(Slow.class)));
+            for (Future<Object> future : futures)
+                assertSame(futures.get(0).get(), future.get());
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, Slow.instances.get());
+        assertNotSame(container.create(Slow.class), container.scope().create(Slow.class));
+    }
+
+    @Bean(type = CounterImpl.class)
+    interface Counter {
+        int count();
+    }
+
+    static class CounterImpl implements Counter {
+        static final AtomicInteger instances = new AtomicInteger();
+
+        CounterImpl() {
+            instances.incrementAndGet();
+        }
+
+        public int count() {
+            return instances.get();
+        }
+    }
+
+    @Singleton
+    static class Client {
+        final Counter counter;
+
+        Client(@Lazy Counter counter, Config config) {
+            this.counter = counter;
+        }
+    }
+
+    @Test
+    void testLazyAndStart() {
+        Container container = container();
+        container.start(Client.class);
+        assertEquals(0, CounterImpl.instances.get());
+        Client client = (Client) container.create(Client.class);
+        assertEquals(0, CounterImpl.instances.get());
+        assertEquals(1, client.counter.count());
+        assertEquals(1, client.counter.count());
+    }
+
+    @Test
+    void testMapIgnoreCase() {
+        Map<String, Object> map = map().pair("Name", "first").pair("AGE", 10).ignore().done();
+        assertEquals("first", map.get("NAME"));
+        assertEquals(10, map.get("age"));
+        assertTrue(map.containsKey("nAmE"));
+        assertFalse(map.containsKey("other"));
+        map.put("NAME", "second");
+        assertEquals(2, map.size());
+        assertEquals("second", map.get("name"));
+        for (int index = 0; index < 100; index++)
+            map.put("Key" + index, index);
+        for (int index = 0; index < 100; index += 2)
+            assertEquals(index, map.remove("KEY" + index));
+        assertEquals(52, map.size());
+        assertNull(map.get("key0"));
+        assertEquals(99, map.get("KEY99"));
+        map.keySet().removeIf(key -> key.startsWith("Key"));
+        assertEquals(2, map.size());
+        assertEquals(new HashSet<>(Arrays.asList("Name", "AGE")), map.keySet());
+    }
+
+    @Test
+    void testMapPersistent() {
+        Map<String, Object> source = new HashMap<>();
+        for (int index = 0; index < 1000; index++)
+            source.put("key" + index, index);
+        Map<String, Object> first = map(source).persistent().pair("extra", -1).done();
+        Map<String, Object> second = map(first).pair("extra", -2).merge(map().pair("key0", "zero").done()).done();
+        assertEquals(1001, first.size());
+        assertEquals(-1, first.get("extra"));
+        assertEquals(0, first.get("key0"));
+        assertEquals(1001, second.size());
+        assertEquals(-2, second.get("extra"));
+        assertEquals("zero", second.get("key0"));
+        assertEquals(999, second.get("key999"));
+        assertThrows(UnsupportedOperationException.class, () -> second.put("key1", 1));
+        Map<String, Object> expected = new HashMap<>(source);
+        expected.put("extra", -1);
+        assertEquals(expected, first);
+        assertEquals(1000, source.size());
+        Map<String, Object> collision = map().persistent().pair("Aa", 1).pair("BB", 2).pair("Aa", 3).done();
+        assertEquals(2, collision.size());
+        assertEquals(3, collision.get("Aa"));
+        assertEquals(2, collision.get("BB"));
+        assertEquals("KEY1", map(first).rename(Core::upper).done().keySet().stream()
+                .filter("KEY1"::equals).findFirst().orElse(null));
+    }
+
+    @Test
+    void testMapRename() {
+        AtomicInteger calls = new AtomicInteger();
+        UnaryOperator<String> rename = renaming(key -> {
+            calls.incrementAndGet();
+            return "_" + key;
+        });
+        for (int row = 0; row < 10; row++) {
+            Map<String, Object> map = map(map().pair("a", row).pair("b", -row).done()).rename(rename).done();
+            assertEquals(row, map.get("_a"));
+            assertEquals(-row, map.get("_b"));
+            assertNull(map.get("a"));
+            assertEquals(2, map.size());
+        }
+        assertEquals(2, calls.get());
+        Map<String, Object> renamed = map().pair("a", 1).rename(rename).pair("c", 3).done();
+        assertEquals(new HashSet<>(Arrays.asList("_a", "c")), renamed.keySet());
+        Map<String, Object> collision = map().pair("a", 1).pair("b", 2).rename(key -> "x").done();
+        assertEquals(1, collision.size());
+
+        Map<String, Object> source = new HashMap<>(map().pair("a", 1).pair("b", 2).done());
+        Map<String, Object> copy = map(source).rename(key -> "_" + key).done();
+        source.put("a", 99);
+        assertEquals(1, copy.get("_a"));
+        assertEquals(2, copy.size());
+
+        UnaryOperator<String> prefix = renaming(key -> key.substring(0, 1));
+        Map<String, Object> first = map(map().pair("x1", 1).done()).rename(prefix).done();
+        assertEquals(1, first.get("x"));
+        Map<String, Object> second = map(map().pair("x2", 2).done()).rename(prefix).done();
+        assertEquals(2, second.get("x"));
+        assertEquals(1, first.get("x"));
+        assertEquals(Collections.singletonMap("x", 1), first);
+    }
+
+    @Test
+    void testMapRenameConcurrently() throws Exception {
+        MapBuilder builder = map();
+        for (int index = 0; index < 1000; index++)
+            builder.pair("key" + index, index);
+        Map<String, Object> renamed = map(builder.done()).rename(key -> "_" + key).done();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> futures = executor.invokeAll(Collections.nCopies(8, () -> {
+                boolean valid = renamed.size() == 1000;
+                for (int index = 0; index < 1000; index++)
+                    valid &= Integer.valueOf(index).equals(renamed.get("_key" + index));
+                return valid;
+            }));
+            for (Future<Boolean> future : futures)
+                assertTrue(future.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    interface Repository {
+        String name();
+        int count();
+        String find(int id);
+        String find(String first, String second);
+        String find(int[] ids);
+    }
+
+    @Test
+    void testMock() throws Exception {
+        Repository repository = mock(Repository.class)
+                .returns(Repository::name)
+                .returns(Repository::count)
+                .returns(mock -> mock.find(1))
+                .returns(mock -> mock.find("a", null))
+                .returns(mock -> mock.find(new int[] { 1, 2 }))
+                .done();
+        assertNull(repository.name());
+        assertEquals(0, repository.count());
+        assertNull(repository.find(2));
+
+        repository = mock(Repository.class)
+                .returns(mock -> mock.name() == null ? "name" : null)
+                .returns(mock -> mock.count() + 10)
+                .returns(mock -> mock.find(1) == null ? "one" : null)
+                .returns(mock -> mock.find("a", null) == null ? "a-null" : null)
+                .returns(mock -> mock.find(new int[] { 1, 2 }) == null ? "1-2" : null)
+                .done();
+        assertEquals("name", repository.name());
+        assertEquals(10, repository.count());
+        assertEquals("one", repository.find(1));
+        assertNull(repository.find(2));
+        assertEquals("a-null", repository.find("a", null));
+        assertNull(repository.find("a", "b"));
+        assertEquals("1-2", repository.find(new int[] { 1, 2 }));
+        assertEquals(repository, repository);
+        assertNotNull(repository.toString());
+
+        Repository shared = repository;
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<String>> results = new ArrayList<>();
+        for (int index = 0; index < 100; index++)
+            results.add(executor.submit(() -> shared.find(1) + shared.find("a", null)));
+        for (Future<String> result : results)
+            assertEquals("onea-null", result.get());
+        executor.shutdown();
+    }
+
+    public interface Calculator {
+        int zero();
+        String name();
+        long sum(long first, int second);
+        double half(double value);
+        String join(String first, String second, String third);
+        boolean contains(int[] values);
+        void reset(String name);
+    }
+
+    @Test
+    void testMockGenerated() {
+        Calculator calculator = mock(Calculator.class)
+                .returns(mock -> mock.zero() + 42)
+                .returns(mock -> mock.name() == null ? "calc" : null)
+                .returns(mock -> mock.sum(1L, 2) + 3)
+                .returns(mock -> mock.half(10d) + 5)
+                .returns(mock -> mock.join("a", "b", null) == null ? "ab" : null)
+                .returns(mock -> !mock.contains(new int[] { 1 }))
+                .generated()
+                .done();
+        assertFalse(Proxy.isProxyClass(calculator.getClass()));
+        assertEquals(42, calculator.zero());
+        assertEquals("calc", calculator.name());
+        assertEquals(3L, calculator.sum(1L, 2));
+        assertEquals(0L, calculator.sum(2L, 1));
+        assertEquals(5d, calculator.half(10d));
+        assertEquals("ab", calculator.join("a", "b", null));
+        assertNull(calculator.join("a", "b", "c"));
+        assertTrue(calculator.contains(new int[] { 1 }));
+        assertFalse(calculator.contains(new int[] { 2 }));
+        calculator.reset("x");
+        assertEquals(calculator, calculator);
+
+        Repository repository = mock(Repository.class)
+                .returns(mock -> mock.count() + 1)
+                .generated()
+                .done();
+        assertTrue(Proxy.isProxyClass(repository.getClass()));
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    void testMockLatencyAndRecord() throws Exception {
+        MockBuilder<Repository> builder = mock(Repository.class)
+                .returns(mock -> mock.find(1) == null ? "one" : null)
+                .latency(mock -> mock.find(0), Latency.fixed(2, TimeUnit.MILLISECONDS))
+                .record();
+        Repository repository = builder.done();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<String>> results = new ArrayList<>();
+        for (int index = 0; index < 40; index++)
+            results.add(executor.submit(() -> repository.find(1)));
+        for (Future<String> result : results)
+            assertEquals("one", result.get());
+        executor.shutdown();
+        repository.count();
+
+        Calls calls = builder.calls(mock -> mock.find(0));
+        assertEquals(40, calls.count());
+        assertTrue(calls.percentile(50, TimeUnit.NANOSECONDS) >= TimeUnit.MILLISECONDS.toNanos(2));
+        assertTrue(calls.max(TimeUnit.NANOSECONDS) >= calls.percentile(99, TimeUnit.NANOSECONDS));
+        assertTrue(calls.mean(TimeUnit.MILLISECONDS) >= 2);
+        assertEquals(1, builder.calls(Repository::count).count());
+        assertEquals(0, builder.calls(Repository::name).count());
+
+        Latency uniform = Latency.uniform(1, 3, TimeUnit.MILLISECONDS);
+        Latency percentiles = Latency.percentiles(TimeUnit.MILLISECONDS, 1, 2, 5, 10, 20);
+        for (int index = 0; index < 1000; index++) {
+            long nanos = uniform.nanos();
+            assertTrue(nanos >= 1_000_000 && nanos <= 3_000_000);
+            nanos = percentiles.nanos();
+            assertTrue(nanos >= 1_000_000 && nanos <= 20_000_000);
+        }
+    }
+
+    @Test
+    void testMethodAndInvoke() {
+        ArrayList<String> list = new ArrayList<>(Arrays.asList("a", "b"));
+        ArrayList<String> copy = Core.clone(list);
+        assertNotSame(list, copy);
+        assertEquals(list, copy);
+        assertThrows(Oops.class, () -> Core.clone(new Object()));
+
+        assertEquals(method(String.class, "indexOf", String.class), method(String.class, "indexOf", String.class));
+        assertNotSame(method(String.class, "indexOf", String.class), method(String.class, "indexOf", String.class));
+        assertNull(method(String.class, "indexOf", Double.class));
+        assertNull(method(String.class, "unknown"));
+        assertEquals(1, invoke("abc", method(String.class, "indexOf", String.class), "b"));
+        assertEquals(2, invoke("abc", method(String.class, "indexOf", int.class), 'c' + 0));
+        assertEquals(42, invoke(null, method(Integer.class, "parseInt", String.class), "42"));
+        assertEquals("a-b", invoke(null, method(String.class, "join", CharSequence.class, CharSequence[].class),
+                "-", new CharSequence[] { "a", "b" }));
+        Oops oops = assertThrows(Oops.class,
+                () -> invoke(null, method(Integer.class, "parseInt", String.class), "x"));
+        assertTrue(oops.getCause() instanceof NumberFormatException);
+
+        Point point = new Point(1, 2);
+        Point clone = Core.clone(point);
+        assertNotSame(point, clone);
+        assertEquals(2, clone.y);
+        assertEquals(3, invoke(point, method(Point.class, "sum")));
+        assertEquals(3, invoke(point, method(Point.class, "sum")));
+        assertFalse(method(Point.class, "sum").isAccessible());
+    }
+
+    static class Point implements Cloneable {
+        final int x;
+        final int y;
+
+        Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        public int sum() {
+            return x + y;
+        }
+
+        @Override
+        public Point clone() {
+            return new Point(x, y);
+        }
+    }
+
+    @Test
+    void testBytes() {
+        byte[] content = new byte[20000];
+        for (int index = 0; index < content.length; index++)
+            content[index] = (byte) index;
+        assertArrayEquals(content, bytes(stream(content)));
+        assertArrayEquals(new byte[0], bytes(stream(new byte[0])));
+        assertEquals(16384, grow(8192, "input"));
+        assertEquals(MAX_ARRAY_LENGTH, grow(Integer.MAX_VALUE / 2 + 1, "input"));
+        assertThrows(Oops.class, () -> grow(MAX_ARRAY_LENGTH, "input"));
+    }
+
+    static final String JSON = "{\n"
+            + "  \"name\": \"Ação \\\"x\\\" ✓\",\n"
+            + "\t\"items\": [1, -2, 3.5, 1.0e-3, true, false, null, [], {}],\r\n"
+            + "  \"nested\": {\"a\": {\"b\": [\"c\", 'd']}},\n"
+            + "                \"long\": \"abcdefghijklmnopqrstuvwxyz \\\\ 0123456789 'quoted' \\\" end\"\n"
+            + "}";
+
+    static List<ByteBuffer> chunks(String document, int size) {
+        byte[] bytes = document.getBytes(StandardCharsets.UTF_8);
+        List<ByteBuffer> chunks = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += size)
+            chunks.add(ByteBuffer.wrap(bytes, offset, Math.min(size, bytes.length - offset)).slice());
+        return chunks;
+    }
+
+    @Test
+    void testParseJson() throws Exception {
+        Object expected = parseJson(JSON);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> object = (Map<String, Object>) expected;
+        assertEquals("Ação \"x\" ✓", object.get("name"));
+        assertEquals("abcdefghijklmnopqrstuvwxyz \\ 0123456789 'quoted' \" end", object.get("long"));
+        assertEquals(Arrays.asList(new BigInteger("1"), new BigInteger("-2"),
+                new BigDecimal("3.5"), new BigDecimal("1.0e-3"), true, false, null,
+                new ArrayList<>(), new HashMap<>()), object.get("items"));
+
+        assertEquals(expected, parseJson(ByteBuffer.wrap(JSON.getBytes(StandardCharsets.UTF_8))));
+        for (int size = 1; size < 8; size++)
+            assertEquals(expected, new JsonParser(new ByteScanner(chunks(JSON, size).toArray(new ByteBuffer[0])))
+                    .parse());
+
+        Path file = Files.createTempFile("jutils", ".json");
+        try {
+            Files.write(file, JSON.getBytes(StandardCharsets.UTF_8));
+            assertEquals(expected, parseJson(file));
+        } finally {
+            Files.delete(file);
+        }
+        assertThrows(Oops.class, () -> parseJson(ByteBuffer.wrap("{\"a\": }".getBytes())));
+        assertThrows(Oops.class, () -> parseJson(ByteBuffer.wrap("[\"a]".getBytes())));
+    }
+
+    @Test
+    void testParseJsonParallel() throws Exception {
+        StringBuilder document = new StringBuilder("[\n");
+        for (int index = 0; index < 1000; index++)
+            document.append(index == 0 ? "" : ",\n").append(index % 2 == 0 ? JSON : "[" + index + ", \"]\\\"\"]");
+        String array = document.append("\n]").toString();
+        Object expected = parseJson(array);
+        assertEquals(expected, parseJsonParallel(array));
+        assertEquals(new ArrayList<>(), parseJsonParallel(" [ ] "));
+        assertEquals(parseJson(JSON), parseJsonParallel(JSON));
+        for (String json : new String[] {"[1 2]", "[{} {}]", "[\"a\" \"b\", 3]", "[[1][2] 3]", "[true false]"})
+            assertEquals(parseJson(json), parseJsonParallel(json));
+        assertThrows(Oops.class, () -> parseJsonParallel("[1,]"));
+        assertThrows(Oops.class, () -> parseJsonParallel("[1, {]"));
+
+        Path file = Files.createTempFile("jutils", ".json");
+        try {
+            Files.write(file, array.getBytes(StandardCharsets.UTF_8));
+            assertEquals(expected, parseJsonParallel(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testParseJsonDepth() {
+        int depth = 100_000;
+        String deep = str(depth, '[') + str(depth, ']');
+        Oops oops = assertThrows(Oops.class, () -> parseJson(deep));
+        assertEquals(property(Constants.Strings.JSON_MAX_DEPTH, 512), oops.getMessage());
+        Object value = parseJson(deep, depth);
+        for (int level = 1; level < depth; level++)
+            value = ((List<?>) value).get(0);
+        assertEquals(new ArrayList<>(), value);
+        assertEquals(parseJson("{\"a\": [{\"b\": []}, {}], \"c\": {\"d\": [[1], 2]}}"),
+                parseJson("{\"a\": [{\"b\": []}, {}], \"c\": {\"d\": [[1], 2]}}", 4));
+        assertThrows(Oops.class, () -> parseJson("[[[]]]", 2));
+        assertThrows(Oops.class, () -> parseJson("{\"a\": 1,}"));
+        assertThrows(Oops.class, () -> parseJson("[1, [2, 3]"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testParseJsonReuse() {
+        String message = "{\"type\": \"order\", \"id\": 1, \"items\": [\"a\\\"b\", {\"type\": \"item\"}]}";
+        Map<String, Object> first = (Map<String, Object>) parseJson(message);
+        assertThrows(Oops.class, () -> parseJson("{\"type\": [1, {\"id\": }]}"));
+        Map<String, Object> second = (Map<String, Object>) parseJson(message);
+        assertEquals(first, second);
+        assertEquals("a\"b", ((List<Object>) second.get("items")).get(0));
+        assertSame(first.keySet().iterator().next(), second.keySet().iterator().next());
+        assertSame(first.get("type"), second.get("type"));
+
+        JsonParser parser = new JsonParser(new Scanner(""));
+        assertEquals(first, parser.reset(message).parse());
+        assertEquals(Arrays.asList(new BigInteger("1"), "x"), parser.reset("[1, 'x']").parse());
+    }
+
+    @Test
+    void testFormatDate() {
+        Date[] dates = {new Date(1_600_000_000_000L), new Date(0), new Date(-20_000_000_000_000L),
+                new Date(300_000_000_000_000L), new java.sql.Time(45_000_000L)};
+        String[] patterns = {"hh:mm:ss", "yyyy-MM-dd'T'hh:mm:ss", "dd/MM/yyyy HH:mm:ss.SSS", "EEE, d MMM yy h a Z",
+                "'week' w, D"};
+        java.time.LocalDate leapDay = java.time.LocalDate.of(2020, 2, 29);
+        Set<String> leapDays = new HashSet<>();
+        Locale locale = Locale.getDefault();
+        try {
+            for (Locale current : new Locale[] {Locale.US, new Locale("pt", "BR")}) {
+                Locale.setDefault(current);
+                for (Date date : dates)
+                    for (String pattern : patterns)
+                        assertEquals(new java.text.SimpleDateFormat(pattern).format(date), format(date, pattern));
+                String leapDayFormat = format(leapDay, "EEE, d MMM yyyy");
+                assertEquals(DateTimeFormatter.ofPattern("EEE, d MMM yyyy", current).format(leapDay), leapDayFormat);
+                leapDays.add(leapDayFormat);
+            }
+            assertEquals(2, leapDays.size());
+        } finally {
+            Locale.setDefault(locale);
+        }
+        assertEquals('"' + format(dates[0], "yyyy-MM-dd'T'hh:mm:ss") + '"', json(dates[0]));
+        assertEquals('"' + format(dates[4], "hh:mm:ss") + '"', json(dates[4]));
+
+        java.time.LocalDateTime dateTime = java.time.LocalDateTime.of(2020, 2, 29, 13, 5);
+        assertEquals("[\"2020-02-29T13:05:00\",\"13:05:00\",\"2020-02-29T13:05:00Z\",\"2020-02-29\"]",
+                json(Arrays.asList(dateTime, dateTime.toLocalTime(), dateTime.atZone(ZoneOffset.UTC),
+                        dateTime.toLocalDate())));
+        assertEquals("29/02/2020 13:05", format(dateTime, "dd/MM/yyyy HH:mm"));
+    }
+}
+
+class CoreTest_Clash_Factory implements Core.Factory {
+
+    public Class<?> type() {
+        return String.class;
+    }
+
+    public Class<?>[] dependencies() {
+        return new Class<?>[0];
+    }
+
+    public Object create(Object[] dependencies) {
+        return "CoreTest_Clash";
+    }
+}
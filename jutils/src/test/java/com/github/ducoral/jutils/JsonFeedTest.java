@@ -0,0 +1,44 @@
+package com.github.ducoral.jutils;
+
+import com.github.ducoral.jutils.Core.JsonFeed;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.github.ducoral.jutils.Core.jsonFeed;
+import static com.github.ducoral.jutils.Core.parseJson;
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonFeedTest {
+
+    @Test
+    void testJsonFeed() {
+        String stream = "{\"a\": [1, \"}\\\"]\"]}\n[true, null]\n'x' \"y\"-12.5e3 null{}\n  [ ] 42";
+        List<Object> expected = Arrays.asList(parseJson("{\"a\": [1, \"}\\\"]\"]}"), parseJson("[true, null]"),
+                "x", "y", new BigDecimal("-12.5e3"), null, parseJson("{}"), parseJson("[]"), new BigInteger("42"));
+        byte[] bytes = stream.getBytes(StandardCharsets.UTF_8);
+        for (int size = 1; size <= bytes.length; size++) {
+            List<Object> values = new ArrayList<>();
+            JsonFeed feed = jsonFeed(values::add);
+            for (int offset = 0; offset < bytes.length; offset += size)
+                feed.feed(ByteBuffer.wrap(bytes, offset, Math.min(size, bytes.length - offset)));
+            assertEquals(expected.size() - 1, values.size());
+            feed.close();
+            assertEquals(expected, values);
+        }
+
+        List<Object> values = new ArrayList<>();
+        JsonFeed feed = jsonFeed(values::add);
+        ByteBuffer chunk = ByteBuffer.wrap("{\"ação\": 1} {\"b\": } [2] [3".getBytes(StandardCharsets.UTF_8));
+        assertThrows(Oops.class, () -> feed.feed(chunk));
+        feed.feed(chunk);
+        assertEquals(Arrays.asList(parseJson("{\"ação\": 1}"), parseJson("[2]")), values);
+        assertThrows(Oops.class, feed::close);
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.ducoral.jutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.github.ducoral.jutils.Core.parseJson;
+import static org.junit.jupiter.api.Assertions.*;
+
+class NDJSONTest {
+
+    @Test
+    void testNDJSON() throws Exception {
+        List<Object> records = new ArrayList<>();
+        for (int index = 0; index < 50_000; index++)
+            records.add(index % 3 == 0 ? parseJson("{\"id\": " + index + ", \"tags\": [\"a\", \"ação\"]}")
+                    : index % 3 == 1 ? new BigInteger(String.valueOf(index)) : "line " + index);
+        Path file = Files.createTempFile("jutils", ".ndjson");
+        try {
+            NDJSON.write(file, records);
+            assertEquals(records, NDJSON.read(file));
+            Set<Object> unordered = ConcurrentHashMap.newKeySet();
+            NDJSON.read(file, unordered::add, false);
+            assertEquals(new HashSet<>(records), unordered);
+
+            Files.write(file, "\n{\"a\": 1}\r\n\n[2]".getBytes(StandardCharsets.UTF_8));
+            assertEquals(Arrays.asList(parseJson("{\"a\": 1}"), parseJson("[2]")), NDJSON.read(file));
+            Files.write(file, "{\"a\": 1}\n{\"a\": }\n".getBytes(StandardCharsets.UTF_8));
+            assertThrows(Oops.class, () -> NDJSON.read(file));
+            assertThrows(Oops.class, () -> NDJSON.write(file, Collections.singletonList("a\nb")));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.ducoral.jutils;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.Pipe;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static com.github.ducoral.jutils.Core.bytes;
+import static com.github.ducoral.jutils.Core.stream;
+import static org.junit.jupiter.api.Assertions.*;
+
+class NIOTest {
+
+    static byte[] content() {
+        byte[] content = new byte[20000];
+        for (int index = 0; index < content.length; index++)
+            content[index] = (byte) index;
+        return content;
+    }
+
+    @Test
+    void testBytes() {
+        byte[] content = content();
+        assertArrayEquals(Arrays.copyOf(content, 100), NIO.bytes(stream(content), 100));
+        assertThrows(Oops.class, () -> NIO.bytes(stream(new byte[10]), 11));
+    }
+
+    @Test
+    void testReadMapAndCopy() throws Exception {
+        byte[] content = content();
+        Path source = Files.createTempFile("jutils", ".bin");
+        Path target = Files.createTempFile("jutils", ".bin");
+        try {
+            Files.write(source, content);
+            assertEquals(ByteBuffer.wrap(content), NIO.read(source));
+            assertEquals(ByteBuffer.wrap(content), NIO.map(source));
+            assertArrayEquals(content, bytes(NIO.stream(NIO.map(source))));
+            assertEquals(content.length, NIO.copy(source, target));
+            assertArrayEquals(content, Files.readAllBytes(target));
+            assertEquals(3, NIO.map(source, 8192).length);
+            assertThrows(Oops.class, () -> NIO.map(source, 0));
+        } finally {
+            Files.delete(source);
+            Files.delete(target);
+        }
+    }
+
+    @Test
+    void testNonBlockingChannels() throws Exception {
+        Path source = Files.createTempFile("jutils", ".bin");
+        Pipe pipe = Pipe.open();
+        try (FileChannel file = FileChannel.open(source)) {
+            pipe.sink().configureBlocking(false);
+            pipe.source().configureBlocking(false);
+            assertThrows(Oops.class, () -> NIO.transfer(file, pipe.sink()));
+            assertThrows(Oops.class, () -> NIO.receive(pipe.source(), file));
+        } finally {
+            pipe.sink().close();
+            pipe.source().close();
+            Files.delete(source);
+        }
+    }
+}